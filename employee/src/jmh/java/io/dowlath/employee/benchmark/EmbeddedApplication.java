@@ -0,0 +1,59 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.EmployeeApplication;
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:30 AM
+ ***/
+// boots the application on the embedded profile and seeds it, shared by the benchmarks
+final class EmbeddedApplication {
+
+    private EmbeddedApplication() {
+    }
+
+    // properties are passed as command line arguments so they win over application.properties
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        String[] args = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            args[i] = "--" + properties[i];
+        }
+        return new SpringApplicationBuilder(EmployeeApplication.class)
+                .profiles("embedded")
+                .web(webApplicationType)
+                .properties("server.port=0", "logging.level.root=WARN", "spring.devtools.restart.enabled=false")
+                .run(args);
+    }
+
+    // returns the generated ids of the seeded employees
+    static long[] seed(EmployeeService employeeService, int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee("seed" + i));
+        }
+        List<BulkItemResult> results = employeeService.saveEmployees(employees);
+        long[] ids = new long[results.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = results.get(i).getId();
+        }
+        return ids;
+    }
+
+    static Employee employee(String key) {
+        return Employee.builder()
+                .firstName("First" + key)
+                .lastName("Last" + key)
+                .email(key + "@mail.com")
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package io.dowlath.employee.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:45 AM
+ ***/
+// EmployeeController dispatch through MockMvc : routing, argument binding, JSON conversion and the service below
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeControllerBenchmark {
+
+    private static final int EMPLOYEES = 10000;
+
+    // the few employees read over and over, cached after the first iteration
+    private static final int HOT_EMPLOYEES = 100;
+
+    // with and without the pre-serialized JSON bodies of GET /api/employees/{id}
+    @Param({"16MB", "0"})
+    public String responseCacheSize;
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    private long[] ids;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = EmbeddedApplication.start(WebApplicationType.SERVLET,
+                "employee.response-cache.maximum-size=" + responseCacheSize);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        objectMapper = context.getBean(ObjectMapper.class);
+        ids = EmbeddedApplication.seed(context.getBean(EmployeeService.class), EMPLOYEES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getEmployeeById() throws Exception {
+        return mockMvc.perform(get("/api/employees/{id}", randomId())).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getHotEmployeeById() throws Exception {
+        return mockMvc.perform(get("/api/employees/{id}", ids[ThreadLocalRandom.current().nextInt(HOT_EMPLOYEES)]))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getEmployeesPage() throws Exception {
+        return mockMvc.perform(get("/api/employees").param("after", String.valueOf(randomId()))).andReturn();
+    }
+
+    // create followed by delete keeps the table size stable across iterations
+    @Benchmark
+    public MvcResult createAndDeleteEmployee() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(EmbeddedApplication.employee("mvc" + sequence.incrementAndGet()))))
+                .andReturn();
+        Employee employee = objectMapper.readValue(created.getResponse().getContentAsByteArray(), Employee.class);
+        return mockMvc.perform(delete("/api/employees/{id}", employee.getId())).andReturn();
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
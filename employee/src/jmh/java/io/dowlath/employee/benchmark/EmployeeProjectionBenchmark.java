@@ -0,0 +1,82 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 4:00 AM
+ ***/
+// one page of 100 employees, as read for GET /api/employees : managed entities in a read-write transaction
+// (dirty-check snapshot per row) against the DTO projection in a read-only transaction.
+// Compare gc.alloc.rate.norm from the gc profiler for the allocation per page
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeProjectionBenchmark {
+
+    private static final int EMPLOYEES = 10000;
+
+    private static final int PAGE_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = EmbeddedApplication.start(WebApplicationType.NONE);
+        employeeService = context.getBean(EmployeeService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        ids = EmbeddedApplication.seed(employeeService, EMPLOYEES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // the page query as it was before the projection
+    @Benchmark
+    public List<Employee> entityPage() {
+        long after = randomId();
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select e from Employee e where e.id > :after order by e.id", Employee.class)
+                .setParameter("after", after)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<EmployeeDto> projectionPage() {
+        return employeeService.getEmployeesAfter(randomId(), PAGE_SIZE);
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,144 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.index.EmployeeSearchIndex;
+import io.dowlath.employee.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 6:05 AM
+ ***/
+// one page of search hits from the embedded Lucene index against the LIKE '%x%' scan it replaces, on an in-memory H2
+// table of the same employees
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Dowlath", "Ariz", "Arsh", "Ramesh", "Suresh", "Priya", "Divya",
+            "Anand", "Karthik", "Lakshmi", "Meena", "Naveen", "Pooja", "Rahul", "Sanjay", "Vijay", "Kavya", "Arjun",
+            "Deepa", "Ganesh", "Harini", "Imran", "Janani", "Kiran", "Manoj", "Nisha", "Rekha", "Sneha", "Tarun", "Usha"};
+
+    private static final String[] LAST_NAMES = {"Basha", "Kumar", "Sharma", "Iyer", "Reddy", "Nair", "Khan", "Patel",
+            "Rao", "Menon", "Pillai", "Gupta", "Singh", "Das", "Joshi", "Mehta", "Shetty", "Varma", "Bose", "Naidu"};
+
+    private static final String LIKE_WHERE = " from employees"
+            + " where lower(first_name) like ? or lower(last_name) like ? or lower(email) like ?";
+
+    @Param({"100000"})
+    public int employees;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    private Connection connection;
+
+    private PreparedStatement likeStatement;
+
+    private PreparedStatement likeCountStatement;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        employeeSearchIndex = new EmployeeSearchIndex("", Duration.ofSeconds(1));
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table employees (id bigint primary key, first_name varchar(255),"
+                    + " last_name varchar(255), email varchar(255))");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into employees values (?, ?, ?, ?)")) {
+            employeeSearchIndex.rebuild(consumer -> {
+                for (int i = 0; i < employees; i++) {
+                    Employee employee = employee(i);
+                    consumer.accept(employee);
+                    try {
+                        insert.setLong(1, employee.getId());
+                        insert.setString(2, employee.getFirstName());
+                        insert.setString(3, employee.getLastName());
+                        insert.setString(4, employee.getEmail());
+                        insert.addBatch();
+                        if(i % 1000 == 999){
+                            insert.executeBatch();
+                        }
+                    } catch (SQLException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            });
+            insert.executeBatch();
+        }
+        likeStatement = connection.prepareStatement("select id, first_name, last_name, email" + LIKE_WHERE
+                + " order by id limit 20");
+        likeCountStatement = connection.prepareStatement("select count(*)" + LIKE_WHERE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        employeeSearchIndex.close();
+        connection.close();
+    }
+
+    private static Employee employee(int i) {
+        String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+        return Employee.builder().id(i + 1).firstName(firstName).lastName(lastName)
+                .email((firstName + "." + lastName + i).toLowerCase() + "@mail.com").build();
+    }
+
+    // ranked search for a full name
+    @Benchmark
+    public EmployeeSearchResult searchIndex() {
+        Employee employee = employee(ThreadLocalRandom.current().nextInt(employees));
+        return employeeSearchIndex.search(employee.getFirstName() + " " + employee.getLastName(), 0, 20);
+    }
+
+    // same search with the last character of the first name missing, matched as a prefix and within one typo
+    @Benchmark
+    public EmployeeSearchResult searchIndexTypo() {
+        Employee employee = employee(ThreadLocalRandom.current().nextInt(employees));
+        String firstName = employee.getFirstName();
+        return employeeSearchIndex.search(firstName.substring(0, firstName.length() - 1) + " " + employee.getLastName(),
+                0, 20);
+    }
+
+    // substring scans of the whole table for the first name, page and total like the search endpoint returns, no
+    // ranking nor typo tolerance
+    @Benchmark
+    public List<Long> searchLike() throws SQLException {
+        String pattern = "%" + employee(ThreadLocalRandom.current().nextInt(employees)).getFirstName().toLowerCase() + "%";
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = execute(likeStatement, pattern)) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        try (ResultSet resultSet = execute(likeCountStatement, pattern)) {
+            resultSet.next();
+            ids.add(resultSet.getLong(1));
+        }
+        return ids;
+    }
+
+    private static ResultSet execute(PreparedStatement statement, String pattern) throws SQLException {
+        statement.setString(1, pattern);
+        statement.setString(2, pattern);
+        statement.setString(3, pattern);
+        return statement.executeQuery();
+    }
+}
@@ -0,0 +1,77 @@
+package io.dowlath.employee.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dowlath.employee.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:40 AM
+ ***/
+// Jackson (de)serialization of one employee and of a full page of employees
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSerializationBenchmark {
+
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<List<Employee>>() {
+    };
+
+    @Param({"100"})
+    public int pageSize;
+
+    // same defaults as the ObjectMapper Spring Boot configures
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Employee employee;
+
+    private List<Employee> employees;
+
+    private byte[] employeeJson;
+
+    private byte[] employeesJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        employees = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Employee seeded = EmbeddedApplication.employee("json" + i);
+            seeded.setId(i + 1);
+            employees.add(seeded);
+        }
+        employee = employees.get(0);
+        employeeJson = objectMapper.writeValueAsBytes(employee);
+        employeesJson = objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws IOException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeList() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return objectMapper.readValue(employeeJson, Employee.class);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeEmployeeList() throws IOException {
+        return objectMapper.readValue(employeesJson, EMPLOYEE_LIST);
+    }
+}
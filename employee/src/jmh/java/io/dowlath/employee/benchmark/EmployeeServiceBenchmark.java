@@ -0,0 +1,79 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:35 AM
+ ***/
+// EmployeeServiceImpl CRUD calls against the embedded database
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private static final int EMPLOYEES = 10000;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private long[] ids;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = EmbeddedApplication.start(WebApplicationType.NONE);
+        employeeService = context.getBean(EmployeeService.class);
+        ids = EmbeddedApplication.seed(employeeService, EMPLOYEES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        return employeeService.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public List<EmployeeDto> getEmployeesPage() {
+        return employeeService.getEmployeesAfter(randomId(), 100);
+    }
+
+    @Benchmark
+    public Employee updateEmployee() {
+        Employee employee = employeeService.getEmployeeById(randomId()).get();
+        employee.setLastName("Last" + sequence.incrementAndGet());
+        return employeeService.updateEmployee(employee);
+    }
+
+    // create followed by delete keeps the table size stable across iterations
+    @Benchmark
+    public boolean createAndDeleteEmployee() {
+        Employee employee = employeeService.saveEmployee(EmbeddedApplication.employee("bench" + sequence.incrementAndGet()));
+        return employeeService.deleteEmployee(employee.getId());
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,56 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.index.EmployeeSuggestIndex;
+import io.dowlath.employee.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:15 AM
+ ***/
+// top-10 type-ahead lookups on the in-memory suggest index, no Spring context or database involved
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSuggestBenchmark {
+
+    private static final String[] NAMES = {"Dowlath", "Ariz", "Arsh", "Basha", "Ramesh", "Suresh", "Priya", "Divya"};
+
+    @Param({"100000"})
+    public int employees;
+
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        employeeSuggestIndex = new EmployeeSuggestIndex();
+        for (int i = 0; i < employees; i++) {
+            String firstName = NAMES[i % NAMES.length] + i;
+            String lastName = NAMES[(i / NAMES.length) % NAMES.length];
+            employeeSuggestIndex.put(Employee.builder().id(i + 1).firstName(firstName).lastName(lastName)
+                    .email(firstName.toLowerCase() + "@mail.com").build());
+        }
+    }
+
+    // short prefix : many matches, the walk stops after the first ten
+    @Benchmark
+    public List<EmployeeDto> suggestShortPrefix() {
+        return employeeSuggestIndex.suggest(NAMES[ThreadLocalRandom.current().nextInt(NAMES.length)].substring(0, 2), 10);
+    }
+
+    // longer prefix narrowing down to a handful of employees
+    @Benchmark
+    public List<EmployeeDto> suggestLongPrefix() {
+        int i = ThreadLocalRandom.current().nextInt(employees);
+        return employeeSuggestIndex.suggest(NAMES[i % NAMES.length] + (i / 10), 10);
+    }
+}
@@ -0,0 +1,91 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:40 AM
+ ***/
+// EmployeeController over real HTTP with many more concurrent clients than Tomcat worker threads,
+// classic thread pool (virtual=false) against one virtual thread per request (virtual=true, JDK 21+)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(400)
+// the JDK HTTP client keeps only 5 idle connections per host by default
+@Fork(value = 1, jvmArgsAppend = "-Dhttp.maxConnections=400")
+public class EmployeeThreadingBenchmark {
+
+    private static final int EMPLOYEES = 10000;
+
+    private static final int TOMCAT_THREADS = 50;
+
+    @Param({"false", "true"})
+    public boolean virtual;
+
+    private ConfigurableApplicationContext context;
+
+    private RestTemplate restTemplate;
+
+    private String baseUrl;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // a platform thread run under the virtual label would only compare the pool with itself
+        if(virtual && !virtualThreadsAvailable()){
+            throw new IllegalStateException("virtual=true needs JDK 21+, this is Java " + System.getProperty("java.version")
+                    + " : run on JDK 21 or with -p virtual=false");
+        }
+        context = EmbeddedApplication.start(WebApplicationType.SERVLET,
+                "employee.threads.virtual=" + virtual,
+                "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "management.metrics.enable.all=false");
+        baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort() + "/api/employees";
+        restTemplate = new RestTemplate();
+        ids = EmbeddedApplication.seed(context.getBean(EmployeeService.class), EMPLOYEES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // keyset page read, goes to the database on every call
+    @Benchmark
+    public ResponseEntity<byte[]> getEmployeesPage() {
+        return restTemplate.getForEntity(baseUrl + "?after={after}", byte[].class, randomId());
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> getEmployeeById() {
+        return restTemplate.getForEntity(baseUrl + "/{id}", byte[].class, randomId());
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
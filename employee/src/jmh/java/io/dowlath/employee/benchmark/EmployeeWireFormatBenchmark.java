@@ -0,0 +1,113 @@
+package io.dowlath.employee.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.dowlath.employee.converter.EmployeeProtobufHttpMessageConverter;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 7:25 AM
+ ***/
+// one page of employees in every wire format of /api/employees, plain and gzipped as server.compression sends it.
+// Payload sizes are printed once per format at setup, serialization CPU is what the benchmarks measure
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeWireFormatBenchmark {
+
+    private static final Type EMPLOYEE_DTO_LIST = new ParameterizedTypeReference<List<EmployeeDto>>() {
+    }.getType();
+
+    private static final Type EMPLOYEE_LIST = new ParameterizedTypeReference<List<Employee>>() {
+    }.getType();
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private final EmployeeProtobufHttpMessageConverter protobufConverter = new EmployeeProtobufHttpMessageConverter();
+
+    private List<EmployeeDto> employees;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        switch (format) {
+            case "smile":
+                objectMapper = new SmileMapper();
+                break;
+            case "cbor":
+                objectMapper = new CBORMapper();
+                break;
+            default:
+                // same defaults as the ObjectMapper Spring Boot configures
+                objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        }
+        employees = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Employee seeded = EmbeddedApplication.employee("wire" + i);
+            employees.add(new EmployeeDto(i + 1, seeded.getFirstName(), seeded.getLastName(), seeded.getEmail(), i % 3));
+        }
+        payload = serializePage();
+        System.out.printf("%n%s : %d bytes per page of %d, %d gzipped%n", format, payload.length, pageSize,
+                gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        if("protobuf".equals(format)){
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+            protobufConverter.write(employees, EMPLOYEE_DTO_LIST, EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF,
+                    outputMessage);
+            return outputMessage.getBodyAsBytes();
+        }
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    // what a client asking for Accept-Encoding: gzip costs the server on top
+    @Benchmark
+    public byte[] serializePageGzip() throws IOException {
+        return gzip(serializePage());
+    }
+
+    @Benchmark
+    public Object deserializePage() throws IOException {
+        if("protobuf".equals(format)){
+            return protobufConverter.read(EMPLOYEE_LIST, null, new MockHttpInputMessage(payload));
+        }
+        return objectMapper.readValue(payload, Employee[].class);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package io.dowlath.employee.benchmark;
+
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 9:00 AM
+ ***/
+// concurrent single creates, each in its own transaction or group committed by the write-behind queue. The gain
+// grows with the cost of a commit : on the in-memory database it is mostly the saved transaction overhead
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class EmployeeWriteBehindBenchmark {
+
+    @Param({"false", "true"})
+    public boolean writeBehind;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = EmbeddedApplication.start(WebApplicationType.NONE, "employee.write-behind.enabled=" + writeBehind);
+        employeeService = context.getBean(EmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Employee createEmployee() {
+        return employeeService.saveEmployee(EmbeddedApplication.employee("create" + sequence.incrementAndGet()));
+    }
+}
@@ -0,0 +1,283 @@
+package io.dowlath.employee.load;
+
+import io.dowlath.employee.EmployeeApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 11:50 AM
+ ***/
+// open-model HTTP load test of /api/employees : requests start at a fixed rate whatever the server does, like
+// independent clients would, instead of each client waiting for its previous response. Boots the application on the
+// embedded profile unless --url points at a running one. Options, all --name=value :
+//   rate         requests per second, all kinds together (200)
+//   warmup       run before measuring, not reported (10s)
+//   duration     measured run (30s)
+//   mix          share of each kind of request (read:70,create:10,update:15,delete:5)
+//   employees    seeded before the run (1000)
+//   connections  HTTP connections to the server, requests beyond wait for one (100)
+//   url          server to load instead of booting one
+// any other --name=value is handed to the booted application, e.g. --employee.write-behind.enabled=true
+public final class EmployeeLoadTest {
+
+    enum Operation {
+        CREATE, READ, UPDATE, DELETE
+    }
+
+    private static final int SEED_BATCH = 1000;
+
+    private final WebClient webClient;
+
+    private final Map<Operation, Integer> mix;
+
+    private final int mixTotal;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile Map<Operation, OperationStats> stats = newStats();
+
+    private EmployeeLoadTest(String url, int connections, Map<Operation, Integer> mix) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("employee-load")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build();
+        this.webClient = WebClient.builder()
+                .baseUrl(url + "/api/employees")
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        this.mix = mix;
+        this.mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        options.put("rate", "200");
+        options.put("warmup", "10s");
+        options.put("duration", "30s");
+        options.put("mix", "read:70,create:10,update:15,delete:5");
+        options.put("employees", "1000");
+        options.put("connections", "100");
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            if(options.containsKey(option[0]) || "url".equals(option[0])){
+                options.put(option[0], option.length > 1 ? option[1] : "");
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        ConfigurableApplicationContext context = null;
+        String url = options.get("url");
+        if(url == null){
+            // devtools would restart main with the application arguments only, it has to be off before the boot
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            context = new SpringApplicationBuilder(EmployeeApplication.class)
+                    .profiles("embedded")
+                    .web(WebApplicationType.SERVLET)
+                    .properties("server.port=0", "logging.level.root=WARN")
+                    .run(applicationArgs.toArray(new String[0]));
+            url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            EmployeeLoadTest loadTest = new EmployeeLoadTest(url, Integer.parseInt(options.get("connections")),
+                    parseMix(options.get("mix")));
+            loadTest.seed(Integer.parseInt(options.get("employees")));
+            double rate = Double.parseDouble(options.get("rate"));
+            Duration warmup = parseDuration(options.get("warmup"));
+            Duration duration = parseDuration(options.get("duration"));
+            System.out.printf("%n%s : %.0f requests/s, mix %s, %s warmup, %s measured%n", url, rate, options.get("mix"),
+                    warmup, duration);
+            loadTest.run(rate, warmup, duration);
+        } finally {
+            if(context != null){
+                context.close();
+            }
+        }
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> shares = new EnumMap<>(Operation.class);
+        for (String share : mix.split(",")) {
+            String[] parts = share.trim().split(":");
+            shares.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return shares;
+    }
+
+    static Duration parseDuration(String duration) {
+        return Duration.parse("PT" + duration.toUpperCase());
+    }
+
+    private void seed(int count) {
+        for (int from = 0; from < count; from += SEED_BATCH) {
+            List<Map<String, String>> employees = new ArrayList<>();
+            for (int i = from; i < Math.min(count, from + SEED_BATCH); i++) {
+                employees.add(employee("seed" + i));
+            }
+            List<?> results = webClient.post().uri("/bulk").bodyValue(employees).retrieve()
+                    .bodyToMono(List.class).block(Duration.ofMinutes(5));
+            for (Object result : results) {
+                Object id = ((Map<?, ?>) result).get("id");
+                if(id != null){
+                    ids.add(((Number) id).longValue());
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> employee(String key) {
+        Map<String, String> employee = new LinkedHashMap<>();
+        employee.put("firstName", "First" + key);
+        employee.put("lastName", "Last" + key);
+        employee.put("email", key + "@load.com");
+        return employee;
+    }
+
+    // requests are due every 1/rate second from the start, each one is sent when due without waiting for responses
+    private void run(double rate, Duration warmup, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        boolean measuring = false;
+        for (long i = 0; ; i++) {
+            long due = start + (long) (i * 1_000_000_000L / rate);
+            if(due - end >= 0){
+                break;
+            }
+            if(!measuring && due - measureFrom >= 0){
+                stats = newStats();
+                measuring = true;
+            }
+            long wait = due - System.nanoTime();
+            if(wait > 0){
+                LockSupport.parkNanos(wait);
+            }
+            send(pickOperation(), due);
+        }
+        Map<Operation, OperationStats> measured = stats;
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        report(measured, duration.toNanos() / 1e9);
+    }
+
+    private Operation pickOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(mixTotal);
+        for (Map.Entry<Operation, Integer> share : mix.entrySet()) {
+            pick -= share.getValue();
+            if(pick < 0){
+                return share.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private void send(Operation operation, long due) {
+        Long id = operation == Operation.CREATE ? null : pickId(operation == Operation.DELETE);
+        // nothing left to read, update or delete : create one instead
+        if(id == null){
+            operation = Operation.CREATE;
+        }
+        OperationStats operationStats = stats.get(operation);
+        long sent = System.nanoTime();
+        inFlight.incrementAndGet();
+        request(operation, id).subscribe(
+                status -> operationStats.record(due, sent, System.nanoTime(), status),
+                error -> {
+                    operationStats.recordFailure(due, sent, System.nanoTime());
+                    inFlight.decrementAndGet();
+                },
+                inFlight::decrementAndGet);
+    }
+
+    private Mono<Integer> request(Operation operation, Long id) {
+        switch (operation) {
+            case CREATE:
+                return webClient.post().bodyValue(employee("load" + sequence.incrementAndGet()))
+                        .exchangeToMono(response -> response.bodyToMono(Map.class)
+                                .doOnNext(created -> {
+                                    Object createdId = created.get("id");
+                                    if(response.statusCode().is2xxSuccessful() && createdId != null){
+                                        addId(((Number) createdId).longValue());
+                                    }
+                                })
+                                .then(Mono.just(response.rawStatusCode())));
+            case UPDATE:
+                return exchange(webClient.put().uri("/{id}", id).bodyValue(employee("updated" + id)));
+            case DELETE:
+                return exchange(webClient.method(HttpMethod.DELETE).uri("/{id}", id));
+            default:
+                return exchange(webClient.get().uri("/{id}", id));
+        }
+    }
+
+    private static Mono<Integer> exchange(WebClient.RequestHeadersSpec<?> request) {
+        return request.exchangeToMono(response -> response.releaseBody().thenReturn(response.rawStatusCode()));
+    }
+
+    private synchronized Long pickId(boolean remove) {
+        if(ids.isEmpty()){
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.get(index);
+        if(remove){
+            // swap with the last one, order does not matter
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+        }
+        return id;
+    }
+
+    private synchronized void addId(long id) {
+        ids.add(id);
+    }
+
+    private static Map<Operation, OperationStats> newStats() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation.name().toLowerCase()));
+        }
+        return stats;
+    }
+
+    private static void report(Map<Operation, OperationStats> stats, double seconds) {
+        OperationStats total = new OperationStats("total");
+        OperationStats.printHeader(System.out);
+        for (OperationStats operationStats : stats.values()) {
+            operationStats.print(System.out, seconds);
+            operationStats.addTo(total);
+        }
+        total.print(System.out, seconds);
+    }
+}
@@ -0,0 +1,74 @@
+package io.dowlath.employee.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 11:45 AM
+ ***/
+// latencies and outcomes of one kind of request. The latency counts from the moment the request was due, not from
+// when it was sent : a stalled server delays the requests behind it and that wait is part of what clients see
+// (coordinated omission). The service time, from send to response, is kept next to it for comparison
+final class OperationStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+
+    private final LongAdder clientErrors = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    void record(long dueNanos, long sentNanos, long doneNanos, int status) {
+        latency.recordValue(Math.min(HIGHEST_MICROS, TimeUnit.NANOSECONDS.toMicros(doneNanos - dueNanos)));
+        serviceTime.recordValue(Math.min(HIGHEST_MICROS, TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos)));
+        if(status >= 500){
+            errors.increment();
+        } else if(status >= 400){
+            clientErrors.increment();
+        }
+    }
+
+    // no response at all : refused, reset or timed out
+    void recordFailure(long dueNanos, long sentNanos, long doneNanos) {
+        record(dueNanos, sentNanos, doneNanos, 599);
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-8s %9s %9s %9s %9s %9s %9s %12s %8s %8s%n", "request", "count", "ops/s", "p50 ms",
+                "p99 ms", "p99.9 ms", "max ms", "p99 svc ms", "4xx", "errors");
+    }
+
+    void print(PrintStream out, double seconds) {
+        long count = latency.getTotalCount();
+        out.printf("%-8s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %12.2f %8d %8d%n", name, count, count / seconds,
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)), millis(latency.getMaxValue()),
+                millis(serviceTime.getValueAtPercentile(99)), clientErrors.sum(), errors.sum());
+    }
+
+    void addTo(OperationStats total) {
+        total.latency.add(latency);
+        total.serviceTime.add(serviceTime);
+        total.clientErrors.add(clientErrors.sum());
+        total.errors.add(errors.sum());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -2,12 +2,25 @@ package io.dowlath.employee;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class EmployeeApplication {
 
+	// startup steps kept for the startup report and /actuator/startup, a few thousand are recorded
+	private static final int STARTUP_STEPS = 10000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EmployeeApplication.class, args);
+		SpringApplication application = new SpringApplication(EmployeeApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		ConfigurableApplicationContext context = application.run(args);
+		// AppCDS training run : stop once started, the JVM writes the classes loaded so far to the archive on exit
+		if(context.getEnvironment().getProperty("employee.startup.exit-when-ready", Boolean.class, false)){
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,256 @@
+package io.dowlath.employee.batch;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.index.EmailHashSet;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:10 PM
+ ***/
+// CSV import : rows are parsed one at a time as the file arrives, checked, and handed to the writers batch-size at a
+// time. Each batch is one saveEmployees call, one transaction, and the writers run several at once. At most two
+// batches per writer wait for a writer, past that reading the file waits : memory stays flat whatever the file size
+@Component
+@Profile("!reactive")
+public class EmployeeCsvImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeCsvImporter.class);
+
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+    static final String EMAIL = "email";
+    static final int MAX_FIELD_LENGTH = 255;
+    static final int KEPT_JOBS = 100;
+
+    private static final int EXPECTED_EMAILS = 1 << 16;
+
+    // header row required, column names in any case and order, extra columns ignored
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreHeaderCase(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    private final EmployeeService employeeService;
+
+    private final int batchSize;
+
+    private final int writers;
+
+    private final ExecutorService writerPool;
+
+    // the running jobs and the last finished ones, KEPT_JOBS in all unless more are running, oldest first
+    private final Map<String, EmployeeImportJob> jobs = new LinkedHashMap<>();
+
+    public EmployeeCsvImporter(EmployeeService employeeService,
+                               @Value("${employee.import.batch-size:1000}") int batchSize,
+                               @Value("${employee.import.writers:4}") int writers) {
+        this.employeeService = employeeService;
+        this.batchSize = batchSize;
+        this.writers = writers;
+        AtomicInteger threads = new AtomicInteger();
+        this.writerPool = Executors.newFixedThreadPool(writers, runnable -> {
+            Thread thread = new Thread(runnable, "employee-import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // reads the whole file on the calling thread and returns once its last batch is written
+    public EmployeeImportJob importEmployees(Reader reader) {
+        return importEmployees(newJob(UUID.randomUUID().toString()), reader);
+    }
+
+    // registers the job before its file is read, so the client can follow it under an id of its choosing from the
+    // start instead of learning the id with the final result
+    public EmployeeImportJob newJob(String id) {
+        EmployeeImportJob job = new EmployeeImportJob(id);
+        synchronized (jobs) {
+            if(jobs.putIfAbsent(id, job) != null){
+                throw new ConflictException("Import " + id + " already exists");
+            }
+            // a running job is never dropped, its client may still be following it
+            Iterator<EmployeeImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > KEPT_JOBS && oldest.hasNext()) {
+                if(!oldest.next().isRunning()){
+                    oldest.remove();
+                }
+            }
+        }
+        return job;
+    }
+
+    public EmployeeImportJob importEmployees(EmployeeImportJob job, Reader reader) {
+        Semaphore inFlight = new Semaphore(writers * 2);
+        try (CSVParser parser = FORMAT.parse(reader)) {
+            List<String> missingColumns = missingColumns(parser.getHeaderNames());
+            if(!missingColumns.isEmpty()){
+                job.stop(EmployeeImportJob.State.REJECTED, "Missing columns " + missingColumns);
+            } else {
+                read(parser, job, inFlight);
+            }
+        } catch (IOException | UncheckedIOException | IllegalStateException ex) {
+            // commons-csv reports malformed records and failed reads of the upload as unchecked exceptions
+            job.stop(EmployeeImportJob.State.REJECTED, "Unreadable CSV : " + ex.getMessage());
+        } finally {
+            // every permit back means every batch written
+            inFlight.acquireUninterruptibly(writers * 2);
+            job.finish();
+        }
+        LOGGER.info("Import {} {} : {} rows read, {} imported, {} rejected", job.getId(), job.getState(),
+                job.getRowsRead(), job.getRowsImported(), job.getRowsRejected());
+        return job;
+    }
+
+    public Optional<EmployeeImportJob> getJob(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    // newest first
+    public List<EmployeeImportJob> getJobs() {
+        List<EmployeeImportJob> recentJobs;
+        synchronized (jobs) {
+            recentJobs = new ArrayList<>(jobs.values());
+        }
+        Collections.reverse(recentJobs);
+        return recentJobs;
+    }
+
+    private static List<String> missingColumns(List<String> headerNames) {
+        List<String> missingColumns = new ArrayList<>();
+        for (String column : new String[]{FIRST_NAME, LAST_NAME, EMAIL}) {
+            if(headerNames.stream().noneMatch(column::equalsIgnoreCase)){
+                missingColumns.add(column);
+            }
+        }
+        return missingColumns;
+    }
+
+    private void read(CSVParser parser, EmployeeImportJob job, Semaphore inFlight) {
+        // duplicates within the file are caught here, the ones already in the table by saveEmployees
+        EmailHashSet emails = new EmailHashSet(EXPECTED_EMAILS);
+        List<Employee> batch = new ArrayList<>(batchSize);
+        List<Long> rows = new ArrayList<>(batchSize);
+        for (CSVRecord record : parser) {
+            // a failed batch stops the import, there is no point reading on
+            if(!job.isRunning()){
+                return;
+            }
+            job.rowRead();
+            // commons-csv numbers the records after the header from 1
+            long row = record.getRecordNumber() + 1;
+            String invalid = validate(record);
+            if(invalid != null){
+                job.rejected(row, invalid);
+                continue;
+            }
+            if(!emails.add(record.get(EMAIL))){
+                job.rejected(row, "Email repeated in the file " + record.get(EMAIL));
+                continue;
+            }
+            batch.add(Employee.builder()
+                    .firstName(record.get(FIRST_NAME))
+                    .lastName(record.get(LAST_NAME))
+                    .email(record.get(EMAIL))
+                    .build());
+            rows.add(row);
+            if(batch.size() == batchSize){
+                submit(job, batch, rows, inFlight);
+                batch = new ArrayList<>(batchSize);
+                rows = new ArrayList<>(batchSize);
+            }
+        }
+        if(!batch.isEmpty()){
+            submit(job, batch, rows, inFlight);
+        }
+    }
+
+    private static String validate(CSVRecord record) {
+        for (String column : new String[]{FIRST_NAME, LAST_NAME, EMAIL}) {
+            if(!record.isSet(column) || record.get(column).isEmpty()){
+                return column + " is required";
+            }
+            if(record.get(column).length() > MAX_FIELD_LENGTH){
+                return column + " is longer than " + MAX_FIELD_LENGTH + " characters";
+            }
+        }
+        if(record.get(EMAIL).indexOf('@') < 1){
+            return "email is not an email address";
+        }
+        return null;
+    }
+
+    private void submit(EmployeeImportJob job, List<Employee> batch, List<Long> rows, Semaphore inFlight) {
+        inFlight.acquireUninterruptibly();
+        try {
+            writerPool.execute(() -> {
+                try {
+                    write(job, batch, rows);
+                } catch (RuntimeException ex) {
+                    LOGGER.error("Import {} : batch from row {} failed", job.getId(), rows.get(0), ex);
+                    job.stop(EmployeeImportJob.State.FAILED, "Batch from row " + rows.get(0) + " failed : "
+                            + ex.getMessage());
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.release();
+            job.stop(EmployeeImportJob.State.FAILED, "Import stopped, the application is shutting down");
+        }
+    }
+
+    // an email taken by a concurrent write is rejected for its row only, saveEmployees retries the batch item by item
+    private void write(EmployeeImportJob job, List<Employee> batch, List<Long> rows) {
+        List<BulkItemResult> results = employeeService.saveEmployees(batch);
+        int imported = 0;
+        for (BulkItemResult result : results) {
+            if(result.getStatus() == HttpStatus.CREATED.value()){
+                imported++;
+            } else {
+                job.rejected(rows.get(result.getIndex()), result.getMessage());
+            }
+        }
+        job.imported(imported);
+    }
+
+    @PreDestroy
+    public void close() {
+        writerPool.shutdown();
+    }
+}
@@ -0,0 +1,135 @@
+package io.dowlath.employee.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:00 PM
+ ***/
+// progress of one CSV import, updated by the request thread reading the file and the writers saving its batches.
+// Rows are numbered like the records of the file, the header being row 1
+public class EmployeeImportJob {
+
+    static final int MAX_ERRORS = 100;
+
+    public enum State {
+        RUNNING,
+        // every row was read and every batch written, rejected rows are in the errors
+        COMPLETED,
+        // the file could not be read : malformed CSV, missing header column or broken upload
+        REJECTED,
+        // a batch could not be written, the rest of the file was not read
+        FAILED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+
+        private final long row;
+
+        private final String message;
+    }
+
+    private final String id;
+
+    private final Instant startedAt = Instant.now();
+
+    private volatile Instant finishedAt;
+
+    private volatile State state = State.RUNNING;
+
+    private volatile String message;
+
+    private final LongAdder rowsRead = new LongAdder();
+
+    private final LongAdder rowsImported = new LongAdder();
+
+    private final LongAdder rowsRejected = new LongAdder();
+
+    // the first MAX_ERRORS only, a file rejected row by row would otherwise keep them all in memory
+    private final List<RowError> errors = new ArrayList<>();
+
+    EmployeeImportJob(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    public long getRowsImported() {
+        return rowsImported.sum();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.sum();
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+
+    boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.increment();
+    }
+
+    void imported(int rows) {
+        rowsImported.add(rows);
+    }
+
+    void rejected(long row, String message) {
+        rowsRejected.increment();
+        synchronized (errors) {
+            if(errors.size() < MAX_ERRORS){
+                errors.add(new RowError(row, message));
+            }
+        }
+    }
+
+    // the first of a rejection or a failure wins, a job already stopped keeps its reason
+    synchronized void stop(State state, String message) {
+        if(this.state == State.RUNNING){
+            this.state = state;
+            this.message = message;
+        }
+    }
+
+    synchronized void finish() {
+        stop(State.COMPLETED, null);
+        finishedAt = Instant.now();
+    }
+}
@@ -0,0 +1,276 @@
+package io.dowlath.employee.batch;
+
+import io.dowlath.employee.exception.ServiceUnavailableException;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 8:25 AM
+ ***/
+// employee.write-behind.enabled=true : single creates are queued and one writer thread inserts them in micro-batches,
+// one transaction and one commit per batch instead of one per request. Callers still wait for their own commit, and
+// what has to follow a commit runs even when the caller stopped waiting for it
+@Component
+@Profile("!reactive")
+public class EmployeeWriteBehindQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeWriteBehindQueue.class);
+
+    static final String METRIC = "employee.write-behind";
+
+    private final EmployeeRepository employeeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final long maxDelayNanos;
+
+    private final long timeoutNanos;
+
+    private final BlockingQueue<PendingEmployee> queue;
+
+    private final Thread writerThread;
+
+    private volatile boolean running;
+
+    private final DistributionSummary batchSizes;
+
+    private final Timer queueWait;
+
+    private final Counter rejected;
+
+    private static final class PendingEmployee {
+
+        private final Employee employee;
+
+        private final Consumer<Employee> onSaved;
+
+        private final long enqueuedNanos = System.nanoTime();
+
+        private final CompletableFuture<Employee> saved = new CompletableFuture<>();
+
+        private final AtomicBoolean onSavedClaimed = new AtomicBoolean();
+
+        private volatile boolean abandoned;
+
+        private PendingEmployee(Employee employee, Consumer<Employee> onSaved) {
+            this.employee = employee;
+            this.onSaved = onSaved;
+        }
+
+        // run by the waiting caller, or by the writer thread once the caller is gone : whichever gets here first
+        private void runOnSaved(Employee savedEmployee) {
+            if(onSavedClaimed.compareAndSet(false, true)){
+                onSaved.accept(savedEmployee);
+            }
+        }
+
+        // called by the writer thread once the employee committed
+        private void committed(Employee savedEmployee) {
+            saved.complete(savedEmployee);
+            if(abandoned){
+                try {
+                    runOnSaved(savedEmployee);
+                } catch (RuntimeException ex) {
+                    LOGGER.error("After-save of employee {} failed", savedEmployee.getId(), ex);
+                }
+            }
+        }
+
+        // the caller stops waiting. Set before looking at saved, and committed() completes saved before looking at
+        // abandoned, so a commit racing with the timeout is always seen by one of the two
+        private void abandon() {
+            abandoned = true;
+            if(saved.isDone() && !saved.isCompletedExceptionally()){
+                runOnSaved(saved.join());
+            }
+        }
+    }
+
+    public EmployeeWriteBehindQueue(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${employee.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${employee.write-behind.batch-size:50}") int batchSize,
+                                    @Value("${employee.write-behind.max-delay:2ms}") Duration maxDelay,
+                                    @Value("${employee.write-behind.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${employee.write-behind.timeout:5s}") Duration timeout) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder(METRIC + ".batch.size")
+                .description("Employees inserted per transaction")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder(METRIC + ".queue.wait")
+                .description("Time a create waited in the queue before its batch started")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC + ".rejected")
+                .description("Creates turned away because the queue was full")
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize(METRIC + ".queue.size", Tags.empty(), queue);
+        writerThread = new Thread(this::drain, "employee-write-behind");
+        writerThread.setDaemon(true);
+        if(enabled){
+            running = true;
+            writerThread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Employee save(Employee employee) {
+        return save(employee, savedEmployee -> { });
+    }
+
+    // blocks until the batch holding the employee committed, fails fast with a 503 when the queue is full. onSaved
+    // runs once the employee committed, on the calling thread while it waits. A caller waiting longer than timeout
+    // gets a 503, its employee may still be saved by the batch afterwards and onSaved then runs on the writer thread
+    public Employee save(Employee employee, Consumer<Employee> onSaved) {
+        PendingEmployee pending = new PendingEmployee(employee, onSaved);
+        if(!running || !queue.offer(pending)){
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many employees waiting to be saved, retry later");
+        }
+        Employee savedEmployee;
+        try {
+            savedEmployee = pending.saved.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            pending.abandon();
+            throw new ServiceUnavailableException("Employee not saved in time, check before retrying");
+        } catch (InterruptedException ex) {
+            pending.abandon();
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while the employee was being saved");
+        } catch (ExecutionException ex) {
+            if(ex.getCause() instanceof RuntimeException){
+                throw (RuntimeException) ex.getCause();
+            }
+            if(ex.getCause() instanceof Error){
+                throw (Error) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+        pending.runOnSaved(savedEmployee);
+        return savedEmployee;
+    }
+
+    // a batch closes when it is full or max-delay after its first employee, whichever comes first. Whatever queued up
+    // while the previous batch was committing goes into the next one without waiting
+    private void drain() {
+        List<PendingEmployee> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEmployee first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first == null){
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                queue.drainTo(batch, batchSize - batch.size());
+                while (batch.size() < batchSize) {
+                    PendingEmployee next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if(next == null){
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable ex) {
+                // the writer thread must outlive any batch, and no caller of it is left waiting
+                LOGGER.error("Write-behind batch failed", ex);
+                batch.forEach(pending -> pending.saved.completeExceptionally(ex));
+            } finally {
+                batch.clear();
+            }
+        }
+        // only left behind by an interrupt or a save racing with close()
+        running = false;
+        queue.drainTo(batch);
+        batch.forEach(pending -> pending.saved.completeExceptionally(
+                new ServiceUnavailableException("Employee writer stopped, retry later")));
+    }
+
+    private void write(List<PendingEmployee> batch) {
+        long now = System.nanoTime();
+        List<Employee> employees = new ArrayList<>(batch.size());
+        for (PendingEmployee pending : batch) {
+            queueWait.record(now - pending.enqueuedNanos, TimeUnit.NANOSECONDS);
+            employees.add(pending.employee);
+        }
+        List<Employee> savedEmployees;
+        try {
+            savedEmployees = transactionTemplate.execute(status -> employeeRepository.saveAllAndFlush(employees));
+        } catch (RuntimeException ex) {
+            // one bad employee (a duplicate email, most likely) rolls the whole batch back : retry them one by one
+            // so only that caller sees the failure
+            writeOneByOne(batch);
+            return;
+        }
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).committed(savedEmployees.get(i));
+        }
+    }
+
+    private void writeOneByOne(List<PendingEmployee> batch) {
+        for (PendingEmployee pending : batch) {
+            // ids drawn from the sequence by the rolled back batch are not kept
+            pending.employee.setId(0);
+            try {
+                Employee savedEmployee = transactionTemplate.execute(status -> employeeRepository.save(pending.employee));
+                batchSizes.record(1);
+                pending.committed(savedEmployee);
+            } catch (RuntimeException ex) {
+                pending.saved.completeExceptionally(ex);
+            }
+        }
+    }
+
+    // employees already queued are still written before the application stops
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        if(enabled){
+            writerThread.join();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.dowlath.employee.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.dowlath.employee.datasource.ReplicaRoutingDataSource;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:20 AM
+ ***/
+// Read-through cache of employees by id, with a secondary email -> id index. Entries are copied in and out,
+// so callers modifying a returned employee never change what other readers see.
+@Component
+public class EmployeeCache implements MeterBinder {
+
+    private final Cache<Long, Employee> employeesById;
+
+    private final Cache<String, Long> idsByEmail;
+
+    // ids evicted less than read-your-writes ago : their next load comes from the primary, a lagging replica would
+    // put the row back as it was before the write, for the whole time-to-live
+    private final Cache<Long, Boolean> recentlyEvicted;
+
+    public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${employee.cache.time-to-live:PT10M}") Duration timeToLive,
+                         @Value("${employee.datasource.read-your-writes:1s}") Duration readYourWrites) {
+        this.employeesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.recentlyEvicted = readYourWrites.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(readYourWrites)
+                .build();
+    }
+
+    // concurrent misses on the same id wait for a single load
+    public Optional<Employee> getById(long id, Function<Long, Optional<Employee>> loader) {
+        Employee employee = employeesById.get(id, key -> {
+            Optional<Employee> loaded = recentlyEvicted != null && recentlyEvicted.getIfPresent(key) != null
+                    ? ReplicaRoutingDataSource.readingPrimary(() -> loader.apply(key))
+                    : loader.apply(key);
+            loaded.ifPresent(found -> idsByEmail.put(found.getEmail(), found.getId()));
+            return loaded.map(this::copy).orElse(null);
+        });
+        return Optional.ofNullable(employee).map(this::copy);
+    }
+
+    // version of the cached employee without loading it, empty when it is not cached
+    public Optional<Long> getVersion(long id) {
+        Employee employee = employeesById.getIfPresent(id);
+        return employee == null ? Optional.empty() : Optional.of(employee.getVersion());
+    }
+
+    public Optional<Employee> getByEmail(String email, Function<String, Optional<Employee>> loader) {
+        Long id = idsByEmail.getIfPresent(email);
+        if(id != null){
+            Employee employee = employeesById.getIfPresent(id);
+            // the email may have moved to another value since the index entry was written
+            if(employee != null && email.equals(employee.getEmail())){
+                return Optional.of(copy(employee));
+            }
+            idsByEmail.invalidate(email);
+        }
+        Optional<Employee> loaded = loader.apply(email);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public void put(Employee employee) {
+        employeesById.put(employee.getId(), copy(employee));
+        idsByEmail.put(employee.getEmail(), employee.getId());
+    }
+
+    public void evict(long id) {
+        Employee employee = employeesById.getIfPresent(id);
+        employeesById.invalidate(id);
+        if(recentlyEvicted != null){
+            recentlyEvicted.put(id, Boolean.TRUE);
+        }
+        if(employee != null){
+            idsByEmail.invalidate(employee.getEmail());
+        }
+    }
+
+    // deletes made in a transaction (the bulk delete) are evicted once it committed : evicted before, a concurrent
+    // read of the still committed row would put it back until the time-to-live. Other writes evict themselves
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeEvent(EmployeeEvent event) {
+        if(event.getType() == EmployeeEvent.Type.DELETED){
+            evict(event.getId());
+        }
+    }
+
+    public CacheStats getByIdStats() {
+        return employeesById.stats();
+    }
+
+    public CacheStats getByEmailStats() {
+        return idsByEmail.stats();
+    }
+
+    // cache_gets (hit / miss), cache_puts, cache_evictions and cache_size for both caches
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, employeesById, "employeesById");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "employeeIdsByEmail");
+    }
+
+    private Employee copy(Employee employee) {
+        return employee.toBuilder().build();
+    }
+}
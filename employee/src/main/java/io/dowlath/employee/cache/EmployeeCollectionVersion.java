@@ -0,0 +1,31 @@
+package io.dowlath.employee.cache;
+
+import io.dowlath.employee.event.EmployeeEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 6:30 AM
+ ***/
+// version of the employee collection as a whole, the ETag of every list page : moves on after each committed write.
+// Prefixed with the startup time so a restart never hands out a tag an earlier run already used for other content
+@Component
+public class EmployeeCollectionVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong writes = new AtomicLong();
+
+    public String current() {
+        return epoch + "-" + writes.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeEvent(EmployeeEvent event) {
+        writes.incrementAndGet();
+    }
+}
@@ -0,0 +1,84 @@
+package io.dowlath.employee.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 7:45 AM
+ ***/
+// JSON bodies of GET /api/employees/{id}, serialized once and written as they are. An entry only answers for the
+// version it was serialized from, so a body that raced with an update is never served for the new version.
+// Bounded by the bytes held rather than the number of entries
+@Component
+public class EmployeeResponseCache implements MeterBinder {
+
+    // object headers and the map entry on top of the body itself
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final Cache<Long, Entry> bodiesById;
+
+    // 0 turns the cache off
+    private final long maximumBytes;
+
+    private static final class Entry {
+
+        private final long version;
+
+        private final byte[] body;
+
+        private Entry(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+
+    public EmployeeResponseCache(@Value("${employee.response-cache.maximum-size:16MB}") DataSize maximumSize,
+                                 @Value("${employee.cache.time-to-live:PT10M}") Duration timeToLive) {
+        this.maximumBytes = maximumSize.toBytes();
+        this.bodiesById = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Long id, Entry entry) -> entry.body.length + ENTRY_OVERHEAD)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    // null unless the cached body is the one of that version, the caller must not modify it
+    public byte[] get(long id, long version) {
+        Entry entry = bodiesById.getIfPresent(id);
+        return entry != null && entry.version == version ? entry.body : null;
+    }
+
+    public void put(long id, long version, byte[] body) {
+        if(maximumBytes == 0){
+            return;
+        }
+        bodiesById.put(id, new Entry(version, body));
+    }
+
+    public void evict(long id) {
+        bodiesById.invalidate(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeEvent(EmployeeEvent event) {
+        evict(event.getId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, bodiesById, "employeeResponses");
+    }
+}
@@ -0,0 +1,76 @@
+package io.dowlath.employee.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.dowlath.employee.datasource.ReadYourWritesFilter;
+import io.dowlath.employee.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 9:35 AM
+ ***/
+// employee.datasource.routing.enabled=true : spring.datasource is the primary, employee.datasource.replicas[n].url /
+// username / password are read replicas kept in sync outside the application. Replaces the auto-configured pool
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employee.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource, Environment environment,
+            @Value("${employee.datasource.replica-selection:round-robin}") ReplicaRoutingDataSource.ReplicaSelection replicaSelection) {
+        List<DataSourceProperties> replicaProperties = Binder.get(environment)
+                .bind("employee.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+                .orElse(Collections.emptyList());
+        List<DataSource> replicas = new ArrayList<>(replicaProperties.size());
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            HikariDataSource replica = replicaProperties.get(i).initializeDataSourceBuilder()
+                    .type(HikariDataSource.class).build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaSelection);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${employee.datasource.read-your-writes:1s}") Duration readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites);
+    }
+
+    // what JPA and everything else sees : no connection is taken until the first statement, by then the read-only flag
+    // of the transaction is known to the routing data source
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,124 @@
+package io.dowlath.employee.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.dowlath.employee.shard.EmailShardDirectory;
+import io.dowlath.employee.shard.ModuloShardRouter;
+import io.dowlath.employee.shard.ShardRouter;
+import io.dowlath.employee.shard.ShardRoutingDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 11:10 AM
+ ***/
+// employee.sharding.enabled=true : spring.datasource is shard 0, employee.sharding.shards[n].url / username / password
+// are shards 1 to n, Flyway migrates all of them. Replaces the auto-configured pool, not available together with
+// replica routing or the write-behind queue
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public ShardingConfig(Environment environment) {
+        for (String property : new String[]{"employee.datasource.routing.enabled", "employee.write-behind.enabled"}) {
+            if(environment.getProperty(property, Boolean.class, false)){
+                throw new IllegalStateException(property + " cannot be combined with employee.sharding.enabled");
+            }
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource shardZeroDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource shardZeroDataSource, Environment environment) {
+        List<DataSourceProperties> shardProperties = Binder.get(environment)
+                .bind("employee.sharding.shards", Bindable.listOf(DataSourceProperties.class))
+                .orElse(Collections.emptyList());
+        List<DataSource> shards = new ArrayList<>(shardProperties.size() + 1);
+        shards.add(shardZeroDataSource);
+        for (DataSourceProperties properties : shardProperties) {
+            HikariDataSource shard = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            shard.setPoolName("shard-" + shards.size());
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    // the shard is only known once ShardContext is set, the connection is taken at the first statement
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    // the auto-configured Flyway migrates shard 0, the unrouted default, the other shards follow with its configuration
+    @Bean
+    public FlywayMigrationStrategy shardMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource,
+                                                          EmailShardDirectory emailShardDirectory) {
+        return flyway -> {
+            flyway.migrate();
+            for (int shard = 1; shard < shardRoutingDataSource.getShardCount(); shard++) {
+                Flyway.configure().configuration(flyway.getConfiguration())
+                        .dataSource(shardRoutingDataSource.getShard(shard))
+                        .load()
+                        .migrate();
+            }
+            checkEveryEmployeeClaimed(shardRoutingDataSource, emailShardDirectory);
+        };
+    }
+
+    // every employee written with sharding on holds its email in the directory. More employees than emails means rows
+    // from before sharding was enabled : they sit on shard 0 under ids the router maps elsewhere and their emails are
+    // not claimed. There is no rebalancing, sharding starts from empty databases
+    static void checkEveryEmployeeClaimed(ShardRoutingDataSource shardRoutingDataSource,
+                                          EmailShardDirectory emailShardDirectory) {
+        long employees = 0;
+        for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+            employees += new JdbcTemplate(shardRoutingDataSource.getShard(shard))
+                    .queryForObject("select count(*) from employees", Long.class);
+        }
+        long claimed = emailShardDirectory.size();
+        if(employees > claimed){
+            throw new IllegalStateException("employee.sharding.enabled needs empty databases : " + (employees - claimed)
+                    + " employees were written without sharding. Export them (GET /api/employees/export), empty the "
+                    + "databases and import them again with sharding on (POST /api/employees/import)");
+        }
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ShardRouter shardRouter(ShardRoutingDataSource shardRoutingDataSource) {
+        return new ModuloShardRouter(shardRoutingDataSource.getShardCount());
+    }
+
+    @Bean
+    public EmailShardDirectory emailShardDirectory(HikariDataSource shardZeroDataSource) {
+        return new EmailShardDirectory(shardZeroDataSource);
+    }
+}
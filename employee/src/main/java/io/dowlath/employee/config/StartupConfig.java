@@ -0,0 +1,25 @@
+package io.dowlath.employee.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:30 PM
+ ***/
+// spring.main.lazy-initialization=true (fast-startup profile) : the connection pool and Hibernate still start with
+// the application. The first request needs them anyway, started lazily they would only move their cost onto it,
+// and a misconfigured database or datasource combination should fail the startup, not the first request
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerPersistence() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+}
@@ -0,0 +1,60 @@
+package io.dowlath.employee.config;
+
+import io.dowlath.employee.datasource.StatementCounter;
+import io.dowlath.employee.datasource.StatementReportFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:00 PM
+ ***/
+// employee.statements.enabled=true : the data source is proxied to count the statements every thread executes.
+// Tests open their own recordings on StatementCounter, employee.statements.sample-rate reports a share of the requests
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employee.statements.enabled", havingValue = "true")
+public class StatementCountConfig {
+
+    static final String DATA_SOURCE = "dataSource";
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    // only the dataSource bean, the one JPA, Flyway and the repositories use. The pools a routing data source sends
+    // to are reached through it, proxying them too would count their statements twice
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource(ObjectProvider<StatementCounter> statementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(DATA_SOURCE.equals(beanName) && bean instanceof DataSource){
+                    return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                            .listener(statementCounter.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication
+    public StatementReportFilter statementReportFilter(StatementCounter statementCounter, MeterRegistry meterRegistry,
+                                                       @Value("${employee.statements.sample-rate:0}") double sampleRate) {
+        return new StatementReportFilter(statementCounter, meterRegistry, sampleRate);
+    }
+}
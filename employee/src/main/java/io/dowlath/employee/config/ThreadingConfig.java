@@ -0,0 +1,62 @@
+package io.dowlath.employee.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:30 AM
+ ***/
+// employee.threads.virtual=true : Tomcat runs every request on its own virtual thread instead of the worker pool,
+// so a request blocked on JDBC no longer holds one of server.tomcat.threads.max platform threads. @Async methods and
+// async MVC requests run on virtual threads too. Needs a JDK with virtual threads (21+), startup fails without one
+@Configuration
+@ConditionalOnProperty(name = "employee.threads.virtual", havingValue = "true")
+public class ThreadingConfig {
+
+    // one virtual thread per task, shut down with the application context
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    // in place of the thread pool Spring Boot would give @Async and async MVC requests
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ConcurrentTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new ConcurrentTaskExecutor(virtualThreadExecutor);
+    }
+
+    static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // looked up reflectively, the application is still compiled for Java 8
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("employee.threads.virtual=true needs virtual threads (JDK 21+), this is Java "
+                    + System.getProperty("java.version"), e);
+        }
+    }
+}
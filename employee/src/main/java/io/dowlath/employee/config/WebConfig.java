@@ -0,0 +1,24 @@
+package io.dowlath.employee.config;
+
+import io.dowlath.employee.converter.EmployeeProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 7:15 AM
+ ***/
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // CBOR and Smile come with Spring MVC once their Jackson modules are on the classpath. Protobuf goes last so
+    // clients without an Accept header keep getting JSON
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new EmployeeProtobufHttpMessageConverter());
+    }
+}
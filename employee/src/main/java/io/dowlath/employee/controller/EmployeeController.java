@@ -1,12 +1,30 @@
 package io.dowlath.employee.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.dowlath.employee.cache.EmployeeResponseCache;
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
 import io.dowlath.employee.model.Employee;
 import io.dowlath.employee.service.EmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
 /***
  * Author : Dowlath Basha G
@@ -14,14 +32,32 @@ import java.util.List;
  * Time   : 1:27 AM
  ***/
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_BULK_SIZE = 10000;
+    static final int DEFAULT_SUGGEST_SIZE = 10;
+    static final int MAX_SUGGEST_SIZE = 100;
+    static final int DEFAULT_SEARCH_SIZE = 20;
+    static final int MAX_SEARCH_SIZE = 100;
 
     private EmployeeService employeeService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    private ObjectMapper objectMapper;
+
+    private EmployeeResponseCache employeeResponseCache;
+
+    private ObjectWriter employeeWriter;
+
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper,
+                              EmployeeResponseCache employeeResponseCache) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.employeeResponseCache = employeeResponseCache;
+        this.employeeWriter = objectMapper.writerFor(Employee.class);
     }
 
     @PostMapping
@@ -30,18 +66,153 @@ public class EmployeeController {
         return employeeService.saveEmployee(employee);
     }
 
+    // bulk create : one result per item, 201 when every item was created, 207 otherwise
+    @PostMapping("bulk")
+    public ResponseEntity<List<BulkItemResult>> createEmployees(@RequestBody List<Employee> employees){
+        if(employees.size() > MAX_BULK_SIZE){
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        List<BulkItemResult> results = employeeService.saveEmployees(employees);
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+        return new ResponseEntity<>(results, allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
+    // keyset pagination : ?after=<last seen id>&limit=<page size>, next page advertised via Link / X-Next-Cursor.
+    // Every page carries the collection version as ETag, a client still holding it gets a 304 without a query. The tag
+    // is weak : Tomcat never compresses responses with a strong ETag, and pages are the responses worth compressing
     @GetMapping
-    public List<Employee> getAllEmployees(){
-        return employeeService.getAllEmployees();
+    public ResponseEntity<List<EmployeeDto>> getAllEmployees(@RequestParam(value = "after", defaultValue = "0") long after,
+                                                             @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                             @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        // taken before the read : a write landing in between gives the page an older tag, never a newer one
+        String collectionVersion = employeeService.getEmployeesVersion();
+        if(matchesAny(ifNoneMatch, collectionVersion)){
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("W/\"" + collectionVersion + "\"").build();
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // one extra row tells us whether a next page exists without a count query
+        List<EmployeeDto> employees = employeeService.getEmployeesAfter(after, pageSize + 1);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("W/\"" + collectionVersion + "\"");
+        if(employees.size() > pageSize){
+            employees = employees.subList(0, pageSize);
+            long nextCursor = employees.get(pageSize - 1).getId();
+            String nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextCursor)
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"");
+            headers.add("X-Next-Cursor", String.valueOf(nextCursor));
+        }
+        if(includeTotal){
+            headers.add("X-Total-Count", String.valueOf(employeeService.getApproximateEmployeeCount()));
+        }
+        return new ResponseEntity<>(employees, headers, HttpStatus.OK);
+    }
+
+    // type-ahead : employees whose first name, last name, full name or email starts with q
+    @GetMapping("suggest")
+    public List<EmployeeDto> suggestEmployees(@RequestParam("q") String query,
+                                              @RequestParam(value = "limit", defaultValue = "" + DEFAULT_SUGGEST_SIZE) int limit){
+        return employeeService.suggestEmployees(query, Math.max(1, Math.min(limit, MAX_SUGGEST_SIZE)));
     }
 
+    // full-text search, best match first : ?q=<words>&page=<from 0>&size=<page size>, total in X-Total-Count
+    @GetMapping("search")
+    public ResponseEntity<List<EmployeeDto>> searchEmployees(@RequestParam("q") String query,
+                                                             @RequestParam(value = "page", defaultValue = "0") int page,
+                                                             @RequestParam(value = "size", defaultValue = "" + DEFAULT_SEARCH_SIZE) int size){
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        EmployeeSearchResult result = employeeService.searchEmployees(query, pageNumber, pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Total-Count", String.valueOf(result.getTotal()));
+        if((long) (pageNumber + 1) * pageSize < result.getTotal()){
+            String nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", pageNumber + 1)
+                    .replaceQueryParam("size", pageSize)
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(result.getEmployees(), headers, HttpStatus.OK);
+    }
+
+    // newline delimited JSON export, written row by row to the response so memory use does not grow with the table
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportEmployees(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream outputStream = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writerFor(Employee.class);
+        employeeService.exportEmployees(employee -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        outputStream.flush();
+    }
+
+    // strong ETag holding the version, the one PATCH expects in If-Match. A client sending it back in If-None-Match
+    // gets a 304 from the cached version without a database read, or after the read when the employee is not cached.
+    // JSON bodies are serialized once per version and then written as they are
     @GetMapping("{id}")
-    public ResponseEntity<Employee> getEmployeeId(@PathVariable("id") long employeeId){
+    public ResponseEntity<?> getEmployeeId(@PathVariable("id") long employeeId,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        Optional<Long> cachedVersion = employeeService.getCachedEmployeeVersion(employeeId);
+        boolean json = acceptsJson(accept);
+        if(cachedVersion.isPresent()){
+            String version = String.valueOf(cachedVersion.get());
+            if(matchesAny(ifNoneMatch, version)){
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version).build();
+            }
+            byte[] body = json ? employeeResponseCache.get(employeeId, cachedVersion.get()) : null;
+            if(body != null){
+                return ResponseEntity.ok().eTag(version).contentType(MediaType.APPLICATION_JSON).body(body);
+            }
+        }
         return employeeService.getEmployeeById(employeeId)
-                .map(ResponseEntity::ok)
+                .map(employee -> {
+                    String version = String.valueOf(employee.getVersion());
+                    if(matchesAny(ifNoneMatch, version)){
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version).build();
+                    }
+                    if(!json){
+                        return ResponseEntity.ok().eTag(version).body(employee);
+                    }
+                    byte[] body = serialize(employee);
+                    employeeResponseCache.put(employee.getId(), employee.getVersion(), body);
+                    return ResponseEntity.ok().eTag(version).contentType(MediaType.APPLICATION_JSON).body(body);
+                })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    private byte[] serialize(Employee employee) {
+        try {
+            return employeeWriter.writeValueAsBytes(employee);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // JSON when the client prefers it or takes anything, as the converter order would pick anyway
+    static boolean acceptsJson(String accept) {
+        if(accept == null || accept.trim().isEmpty()){
+            return true;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(mediaTypes);
+            return !mediaTypes.isEmpty() && mediaTypes.get(0).isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException ex) {
+            // left to the regular content negotiation to reject
+            return false;
+        }
+    }
+
     @PutMapping("{id}")
    public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId,
                                                    @RequestBody Employee employee){
@@ -57,10 +228,75 @@ public class EmployeeController {
                 .orElseGet(()-> ResponseEntity.notFound().build());
    }
 
+    // partial update guarded by If-Match : 204 with the new ETag, 412 when the version moved on, 428 without If-Match
+    @PatchMapping("{id}")
+    public ResponseEntity<Void> patchEmployee(@PathVariable("id") long employeeId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestBody EmployeePatch patch){
+        if(ifMatch == null){
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        if(patch.getFirstName() == null && patch.getLastName() == null && patch.getEmail() == null){
+            return ResponseEntity.badRequest().build();
+        }
+        Long expectedVersion = parseVersion(ifMatch);
+        if(expectedVersion == null){
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        return employeeService.patchEmployee(employeeId, patch, expectedVersion)
+                .map(version -> ResponseEntity.noContent().eTag(String.valueOf(version)).<Void>build())
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // If-Match needs a strong ETag holding the version, weak or unparsable ones never match
+    static Long parseVersion(String eTag) {
+        String value = eTag.trim();
+        if(value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")){
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    // If-None-Match compares weakly : any listed tag, weak or strong, with the same value matches, and so does *
+    static boolean matchesAny(String ifNoneMatch, String tag) {
+        if(ifNoneMatch == null){
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if(value.equals("*")){
+                return true;
+            }
+            if(value.startsWith("W/")){
+                value = value.substring(2);
+            }
+            if(value.equals("\"" + tag + "\"")){
+                return true;
+            }
+        }
+        return false;
+    }
+
    @DeleteMapping("{id}")
    public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId){
-        employeeService.deleteEmployee(employeeId);
+        if(!employeeService.deleteEmployee(employeeId)){
+            return ResponseEntity.notFound().build();
+        }
         return new ResponseEntity<String>("Employee deleted successfully",HttpStatus.OK);
    }
 
+   // bulk delete : DELETE /api/employees?ids=1,2,3
+   @DeleteMapping(params = "ids")
+   public ResponseEntity<String> deleteEmployees(@RequestParam("ids") List<Long> employeeIds){
+        if(employeeIds.size() > MAX_BULK_SIZE){
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        int deleted = employeeService.deleteEmployees(employeeIds);
+        return new ResponseEntity<String>(deleted + " employees deleted successfully",HttpStatus.OK);
+   }
+
 }
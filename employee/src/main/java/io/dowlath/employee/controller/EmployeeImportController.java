@@ -0,0 +1,137 @@
+package io.dowlath.employee.controller;
+
+import io.dowlath.employee.batch.EmployeeCsvImporter;
+import io.dowlath.employee.batch.EmployeeImportJob;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:30 PM
+ ***/
+// CSV import : POST a multipart upload (the first file part) or a text/csv body with a firstName,lastName,email header.
+// The upload is read straight from the request stream, nothing is buffered in memory or on disk. The response comes
+// once the import is done : a client that wants to follow it meanwhile names the job in an X-Import-Id header and polls
+// GET /api/employees/import/{id}, GET /api/employees/import lists the running ones with their progress
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/employees/import")
+public class EmployeeImportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    static final String IMPORT_ID_HEADER = "X-Import-Id";
+
+    private static final Pattern IMPORT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private EmployeeCsvImporter employeeCsvImporter;
+
+    public EmployeeImportController(EmployeeCsvImporter employeeCsvImporter) {
+        this.employeeCsvImporter = employeeCsvImporter;
+    }
+
+    // 200 once every row was read and written (rejected rows listed in the job), 400 for a file that cannot be read or
+    // an invalid X-Import-Id, 409 for an X-Import-Id already used, 500 when a batch could not be written
+    @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<EmployeeImportJob> importEmployees(
+            @RequestHeader(value = IMPORT_ID_HEADER, required = false) String importId,
+            HttpServletRequest request) throws IOException {
+        if(importId != null && !IMPORT_ID.matcher(importId).matches()){
+            return ResponseEntity.badRequest().build();
+        }
+        String id = importId == null ? UUID.randomUUID().toString() : importId;
+        EmployeeImportJob job;
+        if(ServletFileUpload.isMultipartContent(request)){
+            FileItemStream file;
+            try {
+                file = firstFile(new ServletFileUpload().getItemIterator(request));
+            } catch (FileUploadException ex) {
+                // not a readable multipart body
+                return ResponseEntity.badRequest().build();
+            }
+            if(file == null){
+                return ResponseEntity.badRequest().build();
+            }
+            job = employeeCsvImporter.newJob(id);
+            try (Reader reader = new InputStreamReader(file.openStream(), charset(file.getContentType()))) {
+                job = employeeCsvImporter.importEmployees(job, reader);
+            }
+        } else {
+            job = employeeCsvImporter.newJob(id);
+            try (Reader reader = new InputStreamReader(request.getInputStream(), charset(request.getContentType()))) {
+                job = employeeCsvImporter.importEmployees(job, reader);
+            }
+        }
+        return ResponseEntity.status(status(job))
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").build(job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<EmployeeImportJob> getImport(@PathVariable("id") String id){
+        return employeeCsvImporter.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // the last imports, newest first
+    @GetMapping
+    public List<EmployeeImportJob> getImports(){
+        return employeeCsvImporter.getJobs();
+    }
+
+    // form fields before the file are skipped unread
+    private static FileItemStream firstFile(FileItemIterator items) throws IOException, FileUploadException {
+        while (items.hasNext()) {
+            FileItemStream item = items.next();
+            if(!item.isFormField()){
+                return item;
+            }
+        }
+        return null;
+    }
+
+    static Charset charset(String contentType) {
+        if(contentType != null){
+            try {
+                Charset charset = MediaType.parseMediaType(contentType).getCharset();
+                if(charset != null){
+                    return charset;
+                }
+            } catch (IllegalArgumentException ex) {
+                // unparsable or unknown charset, read as UTF-8
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static HttpStatus status(EmployeeImportJob job) {
+        switch (job.getState()) {
+            case REJECTED:
+                return HttpStatus.BAD_REQUEST;
+            case FAILED:
+                return HttpStatus.INTERNAL_SERVER_ERROR;
+            default:
+                return HttpStatus.OK;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.dowlath.employee.controller;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.ReactiveEmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static io.dowlath.employee.controller.EmployeeController.DEFAULT_PAGE_SIZE;
+import static io.dowlath.employee.controller.EmployeeController.MAX_BULK_SIZE;
+import static io.dowlath.employee.controller.EmployeeController.MAX_PAGE_SIZE;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:20 AM
+ ***/
+// WebFlux variant of EmployeeController for the "reactive" profile, same /api/employees contract
+@RestController
+@RequestMapping("/api/employees")
+@Profile("reactive")
+public class ReactiveEmployeeController {
+
+    private ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Employee> createEmployee(@RequestBody Employee employee){
+        return employeeService.saveEmployee(employee);
+    }
+
+    // bulk create : one result per item, 201 when every item was created, 207 otherwise
+    @PostMapping("bulk")
+    public Mono<ResponseEntity<List<BulkItemResult>>> createEmployees(@RequestBody List<Employee> employees){
+        if(employees.size() > MAX_BULK_SIZE){
+            return Mono.just(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+        }
+        return employeeService.saveEmployees(employees)
+                .collectList()
+                .map(results -> {
+                    boolean allCreated = results.stream()
+                            .allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+                    return new ResponseEntity<>(results, allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+                });
+    }
+
+    // keyset pagination : ?after=<last seen id>&limit=<page size>, next page advertised via Link / X-Next-Cursor
+    @GetMapping
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees(@RequestParam(value = "after", defaultValue = "0") long after,
+                                                                @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                                @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal,
+                                                                ServerHttpRequest request){
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // one extra row tells us whether a next page exists without a count query
+        Mono<List<Employee>> page = employeeService.getEmployeesAfter(after, pageSize + 1).collectList();
+        Mono<Long> total = includeTotal ? employeeService.getEmployeeCount() : Mono.just(-1L);
+        return Mono.zip(page, total).map(pageAndTotal -> {
+            List<Employee> employees = pageAndTotal.getT1();
+            HttpHeaders headers = new HttpHeaders();
+            if(employees.size() > pageSize){
+                employees = employees.subList(0, pageSize);
+                long nextCursor = employees.get(pageSize - 1).getId();
+                String nextPage = UriComponentsBuilder.fromHttpRequest(request)
+                        .replaceQueryParam("after", nextCursor)
+                        .replaceQueryParam("limit", pageSize)
+                        .toUriString();
+                headers.add(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"");
+                headers.add("X-Next-Cursor", String.valueOf(nextCursor));
+            }
+            if(includeTotal){
+                headers.add("X-Total-Count", String.valueOf(pageAndTotal.getT2()));
+            }
+            return new ResponseEntity<>(employees, headers, HttpStatus.OK);
+        });
+    }
+
+    // newline delimited JSON export, rows are written as they arrive from the database
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> exportEmployees(){
+        return employeeService.exportEmployees();
+    }
+
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeId(@PathVariable("id") long employeeId){
+        return employeeService.getEmployeeById(employeeId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("{id}")
+    public Mono<ResponseEntity<Employee>> updateEmployee(@PathVariable("id") long employeeId,
+                                                         @RequestBody Employee employee){
+        return employeeService.getEmployeeById(employeeId)
+                .flatMap(savedEmployee -> {
+                    savedEmployee.setFirstName(employee.getFirstName());
+                    savedEmployee.setLastName(employee.getLastName());
+                    savedEmployee.setEmail(employee.getEmail());
+                    return employeeService.updateEmployee(savedEmployee);
+                })
+                .map(updatedEmployee -> new ResponseEntity<>(updatedEmployee, HttpStatus.OK))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // partial update guarded by If-Match : 204 with the new ETag, 412 when the version moved on, 428 without If-Match
+    @PatchMapping("{id}")
+    public Mono<ResponseEntity<Void>> patchEmployee(@PathVariable("id") long employeeId,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @RequestBody EmployeePatch patch){
+        if(ifMatch == null){
+            return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build());
+        }
+        if(patch.getFirstName() == null && patch.getLastName() == null && patch.getEmail() == null){
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        Long expectedVersion = EmployeeController.parseVersion(ifMatch);
+        if(expectedVersion == null){
+            return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+        }
+        return employeeService.patchEmployee(employeeId, patch, expectedVersion)
+                .map(version -> ResponseEntity.noContent().eTag(String.valueOf(version)).<Void>build())
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<String>> deleteEmployee(@PathVariable("id") long employeeId){
+        return employeeService.deleteEmployee(employeeId)
+                .map(deleted -> deleted
+                        ? new ResponseEntity<>("Employee deleted successfully", HttpStatus.OK)
+                        : ResponseEntity.notFound().<String>build());
+    }
+
+    // bulk delete : DELETE /api/employees?ids=1,2,3
+    @DeleteMapping(params = "ids")
+    public Mono<ResponseEntity<String>> deleteEmployees(@RequestParam("ids") List<Long> employeeIds){
+        if(employeeIds.size() > MAX_BULK_SIZE){
+            return Mono.just(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+        }
+        return employeeService.deleteEmployees(employeeIds)
+                .map(deleted -> new ResponseEntity<>(deleted + " employees deleted successfully", HttpStatus.OK));
+    }
+}
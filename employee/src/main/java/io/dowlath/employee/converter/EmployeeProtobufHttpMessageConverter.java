@@ -0,0 +1,195 @@
+package io.dowlath.employee.converter;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.model.Employee;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 6:50 AM
+ ***/
+// application/x-protobuf for Employee, EmployeeDto and lists of them, following src/main/proto/employee.proto.
+// Encoded by hand with CodedOutputStream straight from the objects, so there are no generated classes to copy into
+public class EmployeeProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    // field numbers of employee.proto
+    static final int ID = 1;
+    static final int FIRST_NAME = 2;
+    static final int LAST_NAME = 3;
+    static final int EMAIL = 4;
+    static final int VERSION = 5;
+    static final int EMPLOYEES = 1;
+
+    public EmployeeProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    // any collection may hold employees : the element type is only known to the generic canRead / canWrite below
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isEmployee(clazz) || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return canRead(mediaType) && (type == Employee.class || isListOf(type, Employee.class));
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && (isEmployee(clazz) || isListOf(type, Employee.class)
+                || isListOf(type, EmployeeDto.class));
+    }
+
+    private static boolean isEmployee(Type type) {
+        return type == Employee.class || type == EmployeeDto.class;
+    }
+
+    private static boolean isListOf(Type type, Class<?> elementClass) {
+        if(!(type instanceof ParameterizedType)){
+            return false;
+        }
+        ParameterizedType parameterizedType = (ParameterizedType) type;
+        return parameterizedType.getRawType() instanceof Class
+                && Collection.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())
+                && parameterizedType.getActualTypeArguments()[0] == elementClass;
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if(value instanceof Collection){
+            for (Object element : (Collection<?>) value) {
+                EmployeeDto employee = toDto(element);
+                output.writeTag(EMPLOYEES, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(size(employee));
+                write(employee, output);
+            }
+        } else {
+            write(toDto(value), output);
+        }
+        output.flush();
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody());
+        try {
+            if(type == Employee.class){
+                return read(input);
+            }
+            List<Employee> employees = new ArrayList<>();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if(WireFormat.getTagFieldNumber(tag) == EMPLOYEES
+                        && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED){
+                    int limit = input.pushLimit(input.readRawVarint32());
+                    employees.add(read(input));
+                    input.popLimit(limit);
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            return employees;
+        } catch (InvalidProtocolBufferException ex) {
+            throw new HttpMessageNotReadableException("Invalid protobuf employee: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    // proto3 leaves zeros and empty strings off the wire, absent strings read back as null
+    private static Employee read(CodedInputStream input) throws IOException {
+        Employee employee = new Employee();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID:
+                    employee.setId(input.readInt64());
+                    break;
+                case FIRST_NAME:
+                    employee.setFirstName(input.readStringRequireUtf8());
+                    break;
+                case LAST_NAME:
+                    employee.setLastName(input.readStringRequireUtf8());
+                    break;
+                case EMAIL:
+                    employee.setEmail(input.readStringRequireUtf8());
+                    break;
+                case VERSION:
+                    employee.setVersion(input.readInt64());
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        return employee;
+    }
+
+    private static void write(EmployeeDto employee, CodedOutputStream output) throws IOException {
+        if(employee.getId() != 0){
+            output.writeInt64(ID, employee.getId());
+        }
+        writeString(output, FIRST_NAME, employee.getFirstName());
+        writeString(output, LAST_NAME, employee.getLastName());
+        writeString(output, EMAIL, employee.getEmail());
+        if(employee.getVersion() != 0){
+            output.writeInt64(VERSION, employee.getVersion());
+        }
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if(value != null && !value.isEmpty()){
+            output.writeString(field, value);
+        }
+    }
+
+    // length prefix of an employee nested in a list
+    private static int size(EmployeeDto employee) {
+        int size = 0;
+        if(employee.getId() != 0){
+            size += CodedOutputStream.computeInt64Size(ID, employee.getId());
+        }
+        size += stringSize(FIRST_NAME, employee.getFirstName());
+        size += stringSize(LAST_NAME, employee.getLastName());
+        size += stringSize(EMAIL, employee.getEmail());
+        if(employee.getVersion() != 0){
+            size += CodedOutputStream.computeInt64Size(VERSION, employee.getVersion());
+        }
+        return size;
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static EmployeeDto toDto(Object value) {
+        if(value instanceof EmployeeDto){
+            return (EmployeeDto) value;
+        }
+        Employee employee = (Employee) value;
+        return new EmployeeDto(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getVersion());
+    }
+}
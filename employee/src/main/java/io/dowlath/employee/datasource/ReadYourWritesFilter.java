@@ -0,0 +1,85 @@
+package io.dowlath.employee.datasource;
+
+import io.dowlath.employee.event.EmployeeEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 6:10 PM
+ ***/
+// read-your-writes for the client that wrote : a committed write sends back a cookie holding the end of the window,
+// and the requests carrying it read from the primary until then. Other clients keep reading from the replicas
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "employee-read-primary-until";
+
+    private static final ThreadLocal<HttpServletResponse> RESPONSE = new ThreadLocal<>();
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration readYourWrites) {
+        this.windowMillis = readYourWrites.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if(windowMillis <= 0){
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReplicaRoutingDataSource.setReadPrimary(primaryUntil(request) - System.currentTimeMillis() > 0);
+        RESPONSE.set(response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RESPONSE.remove();
+            ReplicaRoutingDataSource.setReadPrimary(null);
+        }
+    }
+
+    // the rest of the writing request reads from the primary too, later requests of the client through the cookie
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeEvent(EmployeeEvent event) {
+        HttpServletResponse response = RESPONSE.get();
+        if(response == null){
+            return;
+        }
+        ReplicaRoutingDataSource.setReadPrimary(true);
+        if(!response.isCommitted()){
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(System.currentTimeMillis() + windowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+            response.addCookie(cookie);
+        }
+    }
+
+    // a later or unreadable value is not trusted beyond one window from now
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if(cookies == null){
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if(COOKIE.equals(cookie.getName())){
+                try {
+                    return Math.min(Long.parseLong(cookie.getValue()), System.currentTimeMillis() + windowMillis);
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
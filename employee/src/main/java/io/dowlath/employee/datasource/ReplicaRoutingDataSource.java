@@ -0,0 +1,130 @@
+package io.dowlath.employee.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 9:20 AM
+ ***/
+// read-only transactions go to a replica, everything else to the primary. The decision is taken when the first
+// statement asks for a connection, so it must sit behind a LazyConnectionDataSourceProxy : the transaction manager
+// asks for one before the transaction is marked read-only. Reads a thread marked with readingPrimary or by
+// ReadYourWritesFilter stay on the primary as well
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    public enum ReplicaSelection {
+        ROUND_ROBIN,
+        // fewest active connections, Hikari pools only
+        LEAST_BUSY
+    }
+
+    private final List<DataSource> replicas;
+
+    private final ReplicaSelection replicaSelection;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    // set while the reads of the current thread have to see writes a replica may not have yet
+    private static final ThreadLocal<Boolean> READ_PRIMARY = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaSelection replicaSelection) {
+        this.replicas = new ArrayList<>(replicas);
+        this.replicaSelection = replicaSelection;
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if(replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || READ_PRIMARY.get() == Boolean.TRUE){
+            return PRIMARY;
+        }
+        return replicaSelection == ReplicaSelection.LEAST_BUSY ? leastBusyReplica() : nextReplica();
+    }
+
+    private int nextReplica() {
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    // starts from the next replica in turn so ties are still spread round-robin
+    private int leastBusyReplica() {
+        int start = nextReplica();
+        int leastBusy = start;
+        int fewestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            int active = activeConnections(replicas.get(replica));
+            if(active < fewestActive){
+                leastBusy = replica;
+                fewestActive = active;
+            }
+        }
+        return leastBusy;
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        if(dataSource instanceof HikariDataSource){
+            // null until the pool handed out its first connection
+            HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+
+    // runs the reads on the primary, whatever their transaction says, then puts the previous routing back
+    public static <T> T readingPrimary(Supplier<T> reads) {
+        Boolean previous = READ_PRIMARY.get();
+        READ_PRIMARY.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            setReadPrimary(previous);
+        }
+    }
+
+    // null clears the mark, so a pooled thread does not carry it into its next task
+    static void setReadPrimary(Boolean readPrimary) {
+        if(readPrimary == null){
+            READ_PRIMARY.remove();
+        } else {
+            READ_PRIMARY.set(readPrimary);
+        }
+    }
+
+    static Boolean getReadPrimary() {
+        return READ_PRIMARY.get();
+    }
+
+    // the replica pools are owned here, the primary is a bean of its own
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if(replica instanceof Closeable){
+                ((Closeable) replica).close();
+            }
+        }
+    }
+}
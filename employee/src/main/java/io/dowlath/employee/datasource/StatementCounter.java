@@ -0,0 +1,96 @@
+package io.dowlath.employee.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:40 PM
+ ***/
+// statements the current thread sends through the proxied data source while a recording is open, for statement
+// budgets in tests and the per-request report. A JDBC batch counts as one statement however many rows it carries.
+// Work handed to other threads (write-behind queue, shard scatter) is not seen
+public class StatementCounter implements QueryExecutionListener {
+
+    private final ThreadLocal<List<Statements>> recordings = new ThreadLocal<>();
+
+    // recordings nest : a statement counts in every recording open on the thread
+    public Statements start() {
+        List<Statements> open = recordings.get();
+        if(open == null){
+            open = new ArrayList<>(1);
+            recordings.set(open);
+        }
+        Statements statements = new Statements(this);
+        open.add(statements);
+        return statements;
+    }
+
+    private void stop(Statements statements) {
+        List<Statements> open = recordings.get();
+        if(open != null && open.remove(statements) && open.isEmpty()){
+            recordings.remove();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<Statements> open = recordings.get();
+        if(open != null && !queryInfoList.isEmpty()){
+            String sql = queryInfoList.get(0).getQuery();
+            open.forEach(statements -> statements.add(sql));
+        }
+    }
+
+    // statements of one recording, closing it stops the recording and keeps what was recorded
+    public static final class Statements implements AutoCloseable {
+
+        private final StatementCounter counter;
+
+        private final Map<String, Integer> countBySql = new LinkedHashMap<>();
+
+        private int count;
+
+        private Statements(StatementCounter counter) {
+            this.counter = counter;
+        }
+
+        private void add(String sql) {
+            count++;
+            countBySql.merge(sql, 1, Integer::sum);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        // the same statement more than once, typically one query per row of a previous one (N+1)
+        public Map<String, Integer> getRepeated() {
+            return countBySql.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 1)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Integer::sum, LinkedHashMap::new));
+        }
+
+        @Override
+        public void close() {
+            counter.stop(this);
+        }
+
+        @Override
+        public String toString() {
+            return count + " statements " + countBySql;
+        }
+    }
+}
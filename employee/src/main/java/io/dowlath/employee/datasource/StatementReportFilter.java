@@ -0,0 +1,74 @@
+package io.dowlath.employee.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:50 PM
+ ***/
+// statements per request for a sample of the requests : recorded in the employee.request.statements distribution per
+// endpoint, logged at debug, and as a warning when a statement repeats within the request (a likely N+1)
+public class StatementReportFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementReportFilter.class);
+
+    static final String METRIC = "employee.request.statements";
+
+    private final StatementCounter statementCounter;
+
+    private final MeterRegistry meterRegistry;
+
+    private final double sampleRate;
+
+    public StatementReportFilter(StatementCounter statementCounter, MeterRegistry meterRegistry, double sampleRate) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if(sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate){
+            filterChain.doFilter(request, response);
+            return;
+        }
+        StatementCounter.Statements statements = statementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.close();
+            report(request, statements);
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementCounter.Statements statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder(METRIC)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements.getCount());
+        Map<String, Integer> repeated = statements.getRepeated();
+        if(!repeated.isEmpty()){
+            LOGGER.warn("{} {} : {} statements, repeated {}", request.getMethod(), uri, statements.getCount(), repeated);
+        } else if(LOGGER.isDebugEnabled()){
+            LOGGER.debug("{} {} : {}", request.getMethod(), uri, statements);
+        }
+    }
+}
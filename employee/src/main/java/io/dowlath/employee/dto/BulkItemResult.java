@@ -0,0 +1,24 @@
+package io.dowlath.employee.dto;
+
+import lombok.*;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/17/2026
+ * Time   : 11:40 PM
+ ***/
+// outcome of one item of a bulk request, index is the position of the item in the request body
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkItemResult {
+
+    private int index;
+
+    private int status;
+
+    private Long id;
+
+    private String message;
+}
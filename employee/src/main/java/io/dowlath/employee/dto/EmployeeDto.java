@@ -0,0 +1,27 @@
+package io.dowlath.employee.dto;
+
+import lombok.*;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:45 AM
+ ***/
+// read-only view of an employee for list responses, same JSON shape as Employee.
+// Filled by a JPQL constructor expression : never a managed entity, so Hibernate keeps no snapshot of it
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeDto {
+
+    private long id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private long version;
+}
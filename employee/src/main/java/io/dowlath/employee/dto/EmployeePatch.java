@@ -0,0 +1,22 @@
+package io.dowlath.employee.dto;
+
+import lombok.*;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:50 AM
+ ***/
+// partial update of an employee, a null field is left unchanged
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeePatch {
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+}
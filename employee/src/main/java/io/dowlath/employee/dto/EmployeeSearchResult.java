@@ -0,0 +1,22 @@
+package io.dowlath.employee.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:30 AM
+ ***/
+// one page of full-text search hits, best match first, total counts every matching employee
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSearchResult {
+
+    private long total;
+
+    private List<EmployeeDto> employees;
+}
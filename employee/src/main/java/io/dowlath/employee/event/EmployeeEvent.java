@@ -0,0 +1,45 @@
+package io.dowlath.employee.event;
+
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.model.Employee;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 4:20 AM
+ ***/
+// published by EmployeeServiceImpl for every committed change, keeps in-memory indexes in step with the table.
+// SAVED carries the whole employee, PATCHED only the changed fields, DELETED only the id
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmployeeEvent {
+
+    public enum Type { SAVED, PATCHED, DELETED }
+
+    private final Type type;
+
+    private final long id;
+
+    private final Employee employee;
+
+    private final EmployeePatch patch;
+
+    private final long version;
+
+    public static EmployeeEvent saved(Employee employee) {
+        return new EmployeeEvent(Type.SAVED, employee.getId(), employee, null, employee.getVersion());
+    }
+
+    public static EmployeeEvent patched(long id, EmployeePatch patch, long version) {
+        return new EmployeeEvent(Type.PATCHED, id, null, patch, version);
+    }
+
+    public static EmployeeEvent deleted(long id) {
+        return new EmployeeEvent(Type.DELETED, id, null, null, 0);
+    }
+}
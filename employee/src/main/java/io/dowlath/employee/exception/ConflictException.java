@@ -0,0 +1,22 @@
+package io.dowlath.employee.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:55 AM
+ ***/
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException{
+
+    public ConflictException(String message){
+        super(message);
+    }
+
+    public ConflictException(String message,Throwable cause){
+        super(message,cause);
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.dowlath.employee.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:55 AM
+ ***/
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException{
+
+    public PreconditionFailedException(String message){
+        super(message);
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.dowlath.employee.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 8:20 AM
+ ***/
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException{
+
+    public ServiceUnavailableException(String message){
+        super(message);
+    }
+
+}
@@ -0,0 +1,148 @@
+package io.dowlath.employee.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/17/2026
+ * Time   : 11:55 PM
+ ***/
+// In-memory bloom filter of the stored emails. A negative answer means the email is certainly new and the
+// lookup before an insert can be skipped; a positive answer only means "maybe", so callers still check the
+// database. Missing an email is harmless because the unique index on employees.email rejects the insert.
+@Component
+public class EmailBloomFilter {
+
+    private final int numBits;
+
+    private final int numHashes;
+
+    private final long expectedInsertions;
+
+    private volatile AtomicLongArray bits;
+
+    // while a rebuild is running new emails are recorded in the replacement as well
+    private volatile AtomicLongArray replacement;
+
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    public EmailBloomFilter(@Value("${employee.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${employee.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.max(64, Math.min(optimalBits, Integer.MAX_VALUE - 63));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+        this.bits = newBits();
+    }
+
+    public boolean mightContain(String email) {
+        if(email == null){
+            return false;
+        }
+        AtomicLongArray current = bits;
+        long hash = hash(email);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int index = index(hash1, hash2, i);
+            if((current.get(index >>> 6) & (1L << index)) == 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        if(email == null){
+            return;
+        }
+        set(bits, email);
+        AtomicLongArray rebuilding = replacement;
+        if(rebuilding != null){
+            set(rebuilding, email);
+        }
+    }
+
+    // emails of deleted or changed employees cannot be taken out of a bloom filter, they only count towards a rebuild
+    public void markStale() {
+        markStale(1);
+    }
+
+    public void markStale(int count) {
+        staleEntries.addAndGet(count);
+    }
+
+    public boolean isStale() {
+        return staleEntries.get() > expectedInsertions / 10;
+    }
+
+    // loader receives the sink to feed every stored email into, the filled filter then replaces the current one
+    public synchronized void rebuild(Consumer<Consumer<String>> loader) {
+        AtomicLongArray fresh = newBits();
+        replacement = fresh;
+        try {
+            staleEntries.set(0);
+            loader.accept(email -> {
+                if(email != null){
+                    set(fresh, email);
+                }
+            });
+            bits = fresh;
+        } finally {
+            replacement = null;
+        }
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((numBits + 63) >>> 6);
+    }
+
+    private void set(AtomicLongArray target, String email) {
+        long hash = hash(email);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            int index = index(hash1, hash2, i);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            do {
+                current = target.get(word);
+                if((current & mask) != 0){
+                    break;
+                }
+            } while (!target.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    // double hashing : the i-th position is derived from the two halves of one 64 bit hash
+    private int index(int hash1, int hash2, int i) {
+        int combined = hash1 + i * hash2;
+        if(combined < 0){
+            combined = ~combined;
+        }
+        return combined % numBits;
+    }
+
+    // emails are compared case insensitively by the database, so the filter does the same
+    static long hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
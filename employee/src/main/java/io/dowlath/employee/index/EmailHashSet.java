@@ -0,0 +1,63 @@
+package io.dowlath.employee.index;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:50 PM
+ ***/
+// emails seen so far, kept as their 64 bit hash in one open-addressing table : 8 to 16 bytes an email instead of the
+// ~100 of a HashSet<String>, so the emails of a multi-million row import fit in a few tens of MB. Case insensitive
+// like the database. Two emails sharing a hash count as one, a few chances in a million over 10^7 emails.
+// Not thread safe
+public final class EmailHashSet {
+
+    // 0 marks a free slot, a hash of 0 is stored as 1
+    private long[] slots;
+
+    private int size;
+
+    public EmailHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.slots = new long[capacity];
+    }
+
+    // false when the email was already in the set
+    public boolean add(String email) {
+        long hash = EmailBloomFilter.hash(email);
+        if(insert(slots, hash == 0 ? 1 : hash)){
+            if(++size * 2 > slots.length){
+                grow();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static boolean insert(long[] slots, long hash) {
+        int mask = slots.length - 1;
+        // linear probing from the low bits, the hash is already mixed
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            if(slots[slot] == 0){
+                slots[slot] = hash;
+                return true;
+            }
+            if(slots[slot] == hash){
+                return false;
+            }
+        }
+    }
+
+    private void grow() {
+        long[] grown = new long[slots.length * 2];
+        for (long hash : slots) {
+            if(hash != 0){
+                insert(grown, hash);
+            }
+        }
+        slots = grown;
+    }
+}
@@ -0,0 +1,65 @@
+package io.dowlath.employee.index;
+
+import io.dowlath.employee.service.EmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/17/2026
+ * Time   : 11:58 PM
+ ***/
+// fills the in-memory indexes from the employees table once the application is up and rebuilds them when stale
+@Component
+@Profile("!reactive")
+public class EmployeeIndexLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeIndexLoader.class);
+
+    private EmployeeService employeeService;
+
+    private EmailBloomFilter emailBloomFilter;
+
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    public EmployeeIndexLoader(EmployeeService employeeService, EmailBloomFilter emailBloomFilter,
+                               EmployeeSuggestIndex employeeSuggestIndex, EmployeeSearchIndex employeeSearchIndex) {
+        this.employeeService = employeeService;
+        this.emailBloomFilter = emailBloomFilter;
+        this.employeeSuggestIndex = employeeSuggestIndex;
+        this.employeeSearchIndex = employeeSearchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuildEmailFilter();
+        long start = System.currentTimeMillis();
+        employeeSuggestIndex.rebuild(employeeService::exportEmployees);
+        LOGGER.info("Suggest index of {} employees built in {} ms", employeeSuggestIndex.size(),
+                System.currentTimeMillis() - start);
+        start = System.currentTimeMillis();
+        employeeSearchIndex.rebuild(employeeService::exportEmployees);
+        LOGGER.info("Search index of {} employees built in {} ms", employeeSearchIndex.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${employee.email-filter.stale-check-interval:600000}")
+    public void rebuildEmailFilterIfStale() {
+        if(emailBloomFilter.isStale()){
+            rebuildEmailFilter();
+        }
+    }
+
+    private void rebuildEmailFilter() {
+        long start = System.currentTimeMillis();
+        emailBloomFilter.rebuild(emails -> employeeService.exportEmployees(employee -> emails.accept(employee.getEmail())));
+        LOGGER.info("Email filter rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+}
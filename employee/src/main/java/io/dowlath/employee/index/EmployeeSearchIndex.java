@@ -0,0 +1,422 @@
+package io.dowlath.employee.index;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:40 AM
+ ***/
+// embedded Lucene index over first name, last name and email for tokenized, typo tolerant, ranked search.
+// Writes come from EmployeeEvents after commit and become searchable within employee.search.max-staleness
+// (near-real-time reopen), the whole index is rebuilt from the table at startup by EmployeeIndexLoader
+@Component
+public class EmployeeSearchIndex {
+
+    static final String ID = "id";
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+    static final String EMAIL = "email";
+    static final String VERSION = "version";
+
+    private static final String[] SEARCH_FIELDS = {FIRST_NAME, LAST_NAME, EMAIL};
+
+    // every field is also indexed as its leading 2..MAX_PREFIX characters, so a prefix match is one term lookup
+    // instead of a PrefixQuery walking all the terms that start with it
+    private static final String PREFIX = ".prefix";
+    static final int MIN_PREFIX = 2;
+    static final int MAX_PREFIX = 20;
+
+    // keeps the top hits of a page bounded, deeper pages should narrow the query instead
+    static final int MAX_HITS = 10000;
+
+    // writes of one employee are made one at a time, so a patch never reads the document another write is replacing
+    private static final int LOCK_STRIPES = 64;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    // the fields of every indexed employee, so a patch rewrites the document without reading the index back
+    private final Map<Long, EmployeeDto> documents = new ConcurrentHashMap<>();
+
+    // changes take the read lock, a rebuild the write lock to start and to finish with none of them half done
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    // while a rebuild is running the changes are recorded as well, and replayed after the rows it read
+    private Queue<Runnable> pending;
+
+    // splits on anything that is not a letter or a digit, so "dowlath.basha@mail.com" gives dowlath, basha, mail, com
+    private static final Analyzer TOKEN_ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    };
+
+    private static final Analyzer PREFIX_ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+            return new TokenStreamComponents(tokenizer,
+                    new EdgeNGramTokenFilter(new LowerCaseFilter(tokenizer), MIN_PREFIX, MAX_PREFIX, false));
+        }
+    };
+
+    private static final Analyzer ANALYZER = prefixAnalyzer();
+
+    private static Analyzer prefixAnalyzer() {
+        Map<String, Analyzer> analyzers = new HashMap<>();
+        for (String field : SEARCH_FIELDS) {
+            analyzers.put(field + PREFIX, PREFIX_ANALYZER);
+        }
+        return new PerFieldAnalyzerWrapper(TOKEN_ANALYZER, analyzers);
+    }
+
+    private final Directory directory;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    public EmployeeSearchIndex(@Value("${employee.search.index-path:}") String indexPath,
+                               @Value("${employee.search.max-staleness:1s}") Duration maxStaleness) {
+        try {
+            directory = indexPath.isEmpty() ? new ByteBuffersDirectory() : FSDirectory.open(Paths.get(indexPath));
+            // the index is rebuilt from the table at startup, whatever is on disk is replaced
+            indexWriter = new IndexWriter(directory, new IndexWriterConfig(ANALYZER)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            searcherManager = new SearcherManager(indexWriter, true, false, null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        double maxStaleSeconds = maxStaleness.toMillis() / 1000.0;
+        reopenThread = new ControlledRealTimeReopenThread<>(indexWriter, searcherManager, maxStaleSeconds,
+                Math.min(0.025, maxStaleSeconds));
+        reopenThread.setName("employee-search-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    // typos are only looked for when nothing matches exactly or as a prefix : every fuzzy clause builds a Levenshtein
+    // automaton and walks the term dictionary, which costs more than the rest of the query. Pages past MAX_HITS come
+    // back empty, with the total still counted
+    public EmployeeSearchResult search(String query, int page, int size) {
+        List<String> tokens = tokenize(query);
+        int from = page * size;
+        if(tokens.isEmpty() || size <= 0){
+            return EmployeeSearchResult.builder().total(0).employees(new ArrayList<>()).build();
+        }
+        EmployeeSearchResult result = search(buildQuery(tokens, false), from, size);
+        return result.getTotal() > 0 ? result : search(buildQuery(tokens, true), from, size);
+    }
+
+    private EmployeeSearchResult search(Query luceneQuery, int from, int size) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopScoreDocCollector collector = TopScoreDocCollector.create(
+                        from >= MAX_HITS ? 1 : Math.min(from + size, MAX_HITS), Integer.MAX_VALUE);
+                searcher.search(luceneQuery, collector);
+                TopDocs topDocs = collector.topDocs(from, size);
+                List<EmployeeDto> employees = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    employees.add(toEmployee(searcher.doc(scoreDoc.doc)));
+                }
+                return EmployeeSearchResult.builder().total(collector.getTotalHits()).employees(employees).build();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // every query token has to match one of the fields : exactly, as a prefix or, when fuzzy, within a few typos, in
+    // that order. Two typos are only allowed from 8 characters on and the first two characters have to be right, a
+    // wider Levenshtein automaton visits far more of the term dictionary for little gain on names
+    static Query buildQuery(List<String> tokens, boolean fuzzy) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            BooleanQuery.Builder tokenQuery = new BooleanQuery.Builder();
+            for (String field : SEARCH_FIELDS) {
+                Term term = new Term(field, token);
+                tokenQuery.add(new BoostQuery(new TermQuery(term), 3f), BooleanClause.Occur.SHOULD);
+                if(token.length() >= MIN_PREFIX){
+                    Query prefix = token.length() <= MAX_PREFIX
+                            ? new TermQuery(new Term(field + PREFIX, token))
+                            : new PrefixQuery(term);
+                    tokenQuery.add(new BoostQuery(new ConstantScoreQuery(prefix), 2f), BooleanClause.Occur.SHOULD);
+                }
+                int maxEdits = token.length() <= 2 ? 0 : token.length() <= 7 ? 1 : 2;
+                if(fuzzy && maxEdits > 0){
+                    tokenQuery.add(new FuzzyQuery(term, maxEdits, 2), BooleanClause.Occur.SHOULD);
+                }
+            }
+            builder.add(tokenQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if(text == null){
+            return tokens;
+        }
+        try (TokenStream tokenStream = TOKEN_ANALYZER.tokenStream(FIRST_NAME, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return tokens;
+    }
+
+    public void put(Employee employee) {
+        EmployeeDto entry = toEntry(employee);
+        apply(entry.getId(), () -> write(entry));
+    }
+
+    // starts from the fields last written for the employee, nothing waits for the searcher. Concurrent patches of the
+    // same employee hold its lock and are applied one after the other
+    public void patch(long id, EmployeePatch patch, long version) {
+        apply(id, () -> {
+            EmployeeDto current = documents.get(id);
+            if(current == null){
+                return;
+            }
+            EmployeeDto employee = new EmployeeDto(id, current.getFirstName(), current.getLastName(),
+                    current.getEmail(), version);
+            if(patch.getFirstName() != null){
+                employee.setFirstName(patch.getFirstName());
+            }
+            if(patch.getLastName() != null){
+                employee.setLastName(patch.getLastName());
+            }
+            if(patch.getEmail() != null){
+                employee.setEmail(patch.getEmail());
+            }
+            write(employee);
+        });
+    }
+
+    public void remove(long id) {
+        apply(id, () -> {
+            try {
+                indexWriter.deleteDocuments(new Term(ID, String.valueOf(id)));
+                documents.remove(id);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    // recorded under the lock of the employee, so the changes of one employee are replayed in the order they were made
+    private void apply(long id, Runnable change) {
+        rebuildLock.readLock().lock();
+        try {
+            synchronized (lock(id)) {
+                change.run();
+                if(pending != null){
+                    pending.add(change);
+                }
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void write(EmployeeDto employee) {
+        try {
+            indexWriter.updateDocument(new Term(ID, String.valueOf(employee.getId())), toDocument(employee));
+            documents.put(employee.getId(), employee);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Object lock(long id) {
+        return locks[(int) Math.floorMod(id, (long) LOCK_STRIPES)];
+    }
+
+    // replaces the whole index, searches running meanwhile may see it partly built. Changes made while the source is
+    // read are applied again after it, so a row read before it changed, or was deleted, is not kept
+    public synchronized void rebuild(Consumer<Consumer<Employee>> source) {
+        rebuildLock.writeLock().lock();
+        try {
+            indexWriter.deleteAll();
+            documents.clear();
+            pending = new ConcurrentLinkedQueue<>();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        try {
+            source.accept(employee -> {
+                EmployeeDto entry = toEntry(employee);
+                synchronized (lock(entry.getId())) {
+                    write(entry);
+                }
+            });
+        } finally {
+            rebuildLock.writeLock().lock();
+            try {
+                for (Runnable change : pending) {
+                    change.run();
+                }
+            } finally {
+                pending = null;
+                rebuildLock.writeLock().unlock();
+            }
+        }
+        try {
+            indexWriter.forceMerge(1);
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // makes every write so far searchable now instead of within the staleness bound
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeEvent(EmployeeEvent event) {
+        switch (event.getType()) {
+            case SAVED:
+                put(event.getEmployee());
+                break;
+            case PATCHED:
+                patch(event.getId(), event.getPatch(), event.getVersion());
+                break;
+            case DELETED:
+                remove(event.getId());
+                break;
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private static Document toDocument(EmployeeDto employee) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(employee.getId()), Field.Store.YES));
+        addText(document, FIRST_NAME, employee.getFirstName());
+        addText(document, LAST_NAME, employee.getLastName());
+        addText(document, EMAIL, employee.getEmail());
+        document.add(new StoredField(VERSION, employee.getVersion()));
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if(value != null){
+            document.add(new TextField(field, value, Field.Store.YES));
+            document.add(new TextField(field + PREFIX, value, Field.Store.NO));
+        }
+    }
+
+    private static EmployeeDto toEntry(Employee employee) {
+        return new EmployeeDto(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getVersion());
+    }
+
+    private static EmployeeDto toEmployee(Document document) {
+        return EmployeeDto.builder()
+                .id(Long.parseLong(document.get(ID)))
+                .firstName(document.get(FIRST_NAME))
+                .lastName(document.get(LAST_NAME))
+                .email(document.get(EMAIL))
+                .version(document.getField(VERSION).numericValue().longValue())
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package io.dowlath.employee.index;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 4:45 AM
+ ***/
+// type-ahead over first name, last name, "first last" and email, answered from memory without a query.
+// Kept in step with the table by EmployeeEvents after commit, filled at startup by EmployeeIndexLoader
+@Component
+public class EmployeeSuggestIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Entries entries = new Entries();
+
+    // while a rebuild is running the changes are recorded as well, and replayed onto the replacement before the swap
+    private List<Consumer<Entries>> pending;
+
+    public List<EmployeeDto> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if(prefix.isEmpty() || limit <= 0){
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            List<Long> ids = entries.trie.prefix(prefix, limit);
+            List<EmployeeDto> suggestions = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                suggestions.add(copy(entries.employees.get(id)));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Employee employee) {
+        EmployeeDto entry = toEntry(employee);
+        apply(target -> target.replace(entry.getId(), entry));
+    }
+
+    // applies the non null fields of the patch to the indexed employee
+    public void patch(long id, EmployeePatch patch, long version) {
+        apply(target -> target.patch(id, patch, version));
+    }
+
+    public void remove(long id) {
+        apply(target -> target.replace(id, null));
+    }
+
+    // builds a new trie off to the side and swaps it in, suggestions keep being served meanwhile. Changes made
+    // while the source is read are applied to the new trie too, after it, so a row read before it changed is not kept
+    public synchronized void rebuild(Consumer<Consumer<Employee>> source) {
+        Entries fresh = new Entries();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            source.accept(employee -> {
+                EmployeeDto entry = toEntry(employee);
+                fresh.employees.put(entry.getId(), entry);
+                index(fresh.trie, entry);
+            });
+        } catch (RuntimeException | Error e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Consumer<Entries> change : pending) {
+                change.accept(fresh);
+            }
+            entries = fresh;
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.employees.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeEvent(EmployeeEvent event) {
+        switch (event.getType()) {
+            case SAVED:
+                put(event.getEmployee());
+                break;
+            case PATCHED:
+                patch(event.getId(), event.getPatch(), event.getVersion());
+                break;
+            case DELETED:
+                remove(event.getId());
+                break;
+        }
+    }
+
+    private void apply(Consumer<Entries> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(entries);
+            if(pending != null){
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // the trie and the employees it points to, changed under the write lock only
+    private static final class Entries {
+
+        private final NameTrie trie = new NameTrie();
+
+        // what a suggestion returns, and the keys to remove when the employee changes
+        private final Map<Long, EmployeeDto> employees = new HashMap<>();
+
+        private void patch(long id, EmployeePatch patch, long version) {
+            EmployeeDto current = employees.get(id);
+            if(current == null){
+                return;
+            }
+            EmployeeDto entry = copy(current);
+            if(patch.getFirstName() != null){
+                entry.setFirstName(patch.getFirstName());
+            }
+            if(patch.getLastName() != null){
+                entry.setLastName(patch.getLastName());
+            }
+            if(patch.getEmail() != null){
+                entry.setEmail(patch.getEmail());
+            }
+            entry.setVersion(version);
+            replace(id, entry);
+        }
+
+        private void replace(long id, EmployeeDto entry) {
+            EmployeeDto previous = entry == null ? employees.remove(id) : employees.put(id, entry);
+            if(previous != null){
+                for (String key : keys(previous)) {
+                    trie.remove(key, id);
+                }
+            }
+            if(entry != null){
+                index(trie, entry);
+            }
+        }
+    }
+
+    private static void index(NameTrie trie, EmployeeDto entry) {
+        for (String key : keys(entry)) {
+            trie.put(key, entry.getId());
+        }
+    }
+
+    private static List<String> keys(EmployeeDto entry) {
+        List<String> keys = new ArrayList<>(4);
+        addKey(keys, entry.getFirstName());
+        addKey(keys, entry.getLastName());
+        if(entry.getFirstName() != null && entry.getLastName() != null){
+            addKey(keys, entry.getFirstName() + " " + entry.getLastName());
+        }
+        addKey(keys, entry.getEmail());
+        return keys;
+    }
+
+    private static void addKey(List<String> keys, String value) {
+        String key = normalize(value);
+        if(!key.isEmpty()){
+            keys.add(key);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static EmployeeDto toEntry(Employee employee) {
+        return new EmployeeDto(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getVersion());
+    }
+
+    private static EmployeeDto copy(EmployeeDto entry) {
+        return new EmployeeDto(entry.getId(), entry.getFirstName(), entry.getLastName(), entry.getEmail(),
+                entry.getVersion());
+    }
+}
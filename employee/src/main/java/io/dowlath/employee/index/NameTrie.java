@@ -0,0 +1,149 @@
+package io.dowlath.employee.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 4:30 AM
+ ***/
+// compressed (radix) trie from lowercase keys to employee ids : every edge holds a run of characters, so a key costs
+// at most one node split on insert, and nodes are merged back when a removal leaves a chain.
+// Not thread safe, EmployeeSuggestIndex guards it
+final class NameTrie {
+
+    private final Node root = new Node("");
+
+    private static final class Node {
+
+        private String label;
+
+        // sorted so prefix matches come out in key order
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+
+        // ids of the keys ending at this node, null for pure branch nodes
+        private Set<Long> ids;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    void put(String key, long id) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if(child == null){
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if(common < child.label.length()){
+                // the key leaves the edge half way : split it at the common prefix
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+            node = child;
+            i += common;
+        }
+        if(node.ids == null){
+            node.ids = new LinkedHashSet<>(2);
+        }
+        node.ids.add(id);
+    }
+
+    void remove(String key, long id) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if(child == null || !key.startsWith(child.label, i)){
+                return;
+            }
+            path.push(node);
+            node = child;
+            i += child.label.length();
+        }
+        if(node.ids == null || !node.ids.remove(id)){
+            return;
+        }
+        if(!node.ids.isEmpty()){
+            return;
+        }
+        node.ids = null;
+        // drop the emptied leaf, then fold a branch left with a single child into that child
+        while (node != root && node.ids == null && node.children.isEmpty()) {
+            Node parent = path.pop();
+            parent.children.remove(node.label.charAt(0));
+            node = parent;
+        }
+        if(node != root && node.ids == null && node.children.size() == 1){
+            Node child = node.children.firstEntry().getValue();
+            node.label = node.label + child.label;
+            node.children.clear();
+            node.children.putAll(child.children);
+            node.ids = child.ids;
+        }
+    }
+
+    // ids of the keys starting with the prefix in lexicographic order of the keys (depth-first, a key before the
+    // longer keys it starts), at most limit
+    List<Long> prefix(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if(child == null){
+                return new ArrayList<>();
+            }
+            int common = commonPrefixLength(child.label, prefix, i);
+            if(i + common < prefix.length() && common < child.label.length()){
+                return new ArrayList<>();
+            }
+            node = child;
+            i += common;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        collect(node, ids, limit);
+        return new ArrayList<>(ids);
+    }
+
+    private static void collect(Node node, Set<Long> ids, int limit) {
+        if(node.ids != null){
+            Iterator<Long> iterator = node.ids.iterator();
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add(iterator.next());
+            }
+        }
+        for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+            if(ids.size() >= limit){
+                return;
+            }
+            collect(entry.getValue(), ids, limit);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -1,6 +1,9 @@
 package io.dowlath.employee.model;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 
@@ -16,14 +19,24 @@ import javax.persistence.*;
 @Getter
 @ToString
 @EqualsAndHashCode
-@Builder
+@Builder(toBuilder = true)
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees",
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class Employee {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+    // pooled sequence (a table on MySQL) hands out ids in blocks, so inserts can be JDBC batched unlike IDENTITY.
+    // Sharded inserts take blocks of the employees_seq of their shard instead, see EmployeeIdGenerator
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_id")
+    @GenericGenerator(name = "employee_id", strategy = "io.dowlath.employee.shard.EmployeeIdGenerator", parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "employees_seq"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+            @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled")
+    })
     private long id;
 
     @Column(name="first_name",nullable = false)
@@ -34,4 +47,8 @@ public class Employee {
 
     @Column(nullable = false)
     private String email;
+
+    // optimistic locking : bumped by every update, exposed to clients as the ETag
+    @Version
+    private long version;
 }
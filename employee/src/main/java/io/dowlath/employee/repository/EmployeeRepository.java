@@ -1,21 +1,42 @@
 package io.dowlath.employee.repository;
 
+import io.dowlath.employee.dto.EmployeeDto;
 import io.dowlath.employee.model.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /***
  * Author : Dowlath Basha G
  * Date   : 2/21/2022
  * Time   : 10:32 PM
  ***/
-public interface EmployeeRepository extends JpaRepository<Employee,Long> {
+public interface EmployeeRepository extends JpaRepository<Employee,Long>, EmployeeRepositoryCustom {
 
  Optional<Employee> findByEmail(String email);
 
+ // lookup by id through a constructor expression : the result is a plain object, not a managed entity,
+ // so nothing is added to the persistence context or snapshotted for dirty checking. Read-only, so a cache miss can be
+ // served by a replica
+ @Transactional(readOnly = true)
+ @Query("select new io.dowlath.employee.model.Employee(e.id, e.firstName, e.lastName, e.email, e.version) "
+         + "from Employee e where e.id = :id")
+ Optional<Employee> findDetachedById(@Param("id") long id);
+
+ // emails among the given ones that are already taken, one round trip for a whole chunk of a bulk request
+ @Query("select e.email from Employee e where e.email in :emails")
+ List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
  // define custom query using JPQL with index params
  @Query("select e from Employee e where e.firstName = ?1 and e.lastName = ?2")
  Employee findByJPQL(String firstName, String lastName);
@@ -33,4 +54,36 @@ public interface EmployeeRepository extends JpaRepository<Employee,Long> {
          nativeQuery = true)
  Employee findByNativeSQLNamed(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
+ // keyset pagination : rows strictly after the given id in id order, page size taken from the pageable.
+ // Projected straight into DTOs, no entities are managed for a page
+ @Query("select new io.dowlath.employee.dto.EmployeeDto(e.id, e.firstName, e.lastName, e.email, e.version) "
+         + "from Employee e where e.id > :after order by e.id")
+ List<EmployeeDto> findPageAfter(@Param("after") long after, Pageable pageable);
+
+ // approximate row count from the table statistics, avoids a full count(*) scan on large tables
+ @Query(value = "select table_rows from information_schema.tables where table_schema = database() and table_name = 'employees'",
+         nativeQuery = true)
+ Long findApproximateCount();
+
+ // cursor over the whole table for exports : rows are fetched from JDBC in chunks of the fetch size
+ // and loaded read-only, the caller must consume the stream inside a transaction and close it
+ @QueryHints({
+         @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+         @QueryHint(name = "org.hibernate.readOnly", value = "true")
+ })
+ @Query("select e from Employee e order by e.id")
+ Stream<Employee> streamAll();
+
+ // single statement delete, unlike deleteById the row is not loaded first, returns the deleted row count
+ @Transactional
+ @Modifying
+ @Query("delete from Employee e where e.id = :id")
+ int deleteEmployeeById(@Param("id") long id);
+
+ // bulk delete in one statement, returns the deleted row count
+ @Transactional
+ @Modifying
+ @Query("delete from Employee e where e.id in :ids")
+ int deleteEmployeesByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,15 @@
+package io.dowlath.employee.repository;
+
+import io.dowlath.employee.dto.EmployeePatch;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:00 AM
+ ***/
+public interface EmployeeRepositoryCustom {
+
+ // single UPDATE of the non null fields of the patch, guarded by the expected version, returns the updated row count
+ int patch(long id, EmployeePatch patch, long expectedVersion);
+
+}
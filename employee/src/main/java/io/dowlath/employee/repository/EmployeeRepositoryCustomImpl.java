@@ -0,0 +1,46 @@
+package io.dowlath.employee.repository;
+
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.model.Employee;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Root;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:00 AM
+ ***/
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private EntityManager entityManager;
+
+    public EmployeeRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int patch(long id, EmployeePatch patch, long expectedVersion) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = criteriaBuilder.createCriteriaUpdate(Employee.class);
+        Root<Employee> employee = update.from(Employee.class);
+        // only the columns present in the patch are written, no prior select of the row
+        if(patch.getFirstName() != null){
+            update.set(employee.<String>get("firstName"), patch.getFirstName());
+        }
+        if(patch.getLastName() != null){
+            update.set(employee.<String>get("lastName"), patch.getLastName());
+        }
+        if(patch.getEmail() != null){
+            update.set(employee.<String>get("email"), patch.getEmail());
+        }
+        update.set(employee.<Long>get("version"), criteriaBuilder.sum(employee.<Long>get("version"), 1L));
+        update.where(criteriaBuilder.equal(employee.get("id"), id),
+                criteriaBuilder.equal(employee.get("version"), expectedVersion));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,179 @@
+package io.dowlath.employee.repository;
+
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.model.Employee;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:00 AM
+ ***/
+// non-blocking access to the employees table over R2DBC, same table and constraints as the JPA mapping of Employee
+@Repository
+@Profile("reactive")
+public class ReactiveEmployeeRepository {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, version";
+
+    // H2 has a sequence. MySQL has none, employees_seq is the one-row table Hibernate hands pooled ids out of
+    static final String H2_NEXT_ID = "select next value for employees_seq";
+    static final String MYSQL_TAKE_ID = "update employees_seq set next_val = last_insert_id(next_val) + 50";
+    static final String MYSQL_TAKEN_ID = "select last_insert_id()";
+
+    private DatabaseClient databaseClient;
+
+    private boolean mysql;
+
+    public ReactiveEmployeeRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.mysql = databaseClient.getConnectionFactory().getMetadata().getName().toLowerCase(Locale.ROOT)
+                .contains("mysql");
+    }
+
+    // one value of employees_seq per row, the way the JPA side takes a block of 50 out of it : the blocks it hands
+    // out never hold an id taken here
+    public Mono<Employee> insert(Employee employee) {
+        return nextId()
+                .flatMap(id -> databaseClient.sql("insert into employees (" + COLUMNS + ") "
+                        + "values (:id, :firstName, :lastName, :email, 0)")
+                        .bind("id", id)
+                        .bind("firstName", employee.getFirstName())
+                        .bind("lastName", employee.getLastName())
+                        .bind("email", employee.getEmail())
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(employee.toBuilder().id(id).version(0).build()));
+    }
+
+    // on MySQL the value is moved past in one update and read back from the same connection with last_insert_id()
+    // (an unsigned BIGINT), no lock is held between the two statements
+    private Mono<Long> nextId() {
+        if(!mysql){
+            return databaseClient.sql(H2_NEXT_ID)
+                    .map(row -> row.get(0, Long.class))
+                    .one();
+        }
+        return databaseClient.inConnection(connection -> Mono.from(connection.createStatement(MYSQL_TAKE_ID).execute())
+                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                .then(Mono.from(connection.createStatement(MYSQL_TAKEN_ID).execute()))
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Number.class).longValue()))));
+    }
+
+    public Mono<Employee> findById(long id) {
+        return databaseClient.sql("select " + COLUMNS + " from employees where id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(long id) {
+        return databaseClient.sql("select 1 from employees where id = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .one()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        return databaseClient.sql("select email from employees where email in (:emails)")
+                .bind("emails", emails)
+                .map(row -> row.get("email", String.class))
+                .all();
+    }
+
+    // keyset page : rows after the given id in id order
+    public Flux<Employee> findPageAfter(long after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + " from employees where id > :after order by id limit :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    // rows are emitted as the driver reads them, demand from the subscriber paces the query
+    public Flux<Employee> findAll() {
+        return databaseClient.sql("select " + COLUMNS + " from employees order by id")
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("select count(*) from employees")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // optimistic update : no row is updated when the version moved on
+    public Mono<Integer> update(Employee employee) {
+        return databaseClient.sql("update employees set first_name = :firstName, last_name = :lastName, "
+                + "email = :email, version = version + 1 where id = :id and version = :version")
+                .bind("firstName", employee.getFirstName())
+                .bind("lastName", employee.getLastName())
+                .bind("email", employee.getEmail())
+                .bind("id", employee.getId())
+                .bind("version", employee.getVersion())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> patch(long id, EmployeePatch patch, long expectedVersion) {
+        // only the columns present in the patch are written, no prior select of the row
+        StringBuilder sql = new StringBuilder("update employees set ");
+        if(patch.getFirstName() != null){
+            sql.append("first_name = :firstName, ");
+        }
+        if(patch.getLastName() != null){
+            sql.append("last_name = :lastName, ");
+        }
+        if(patch.getEmail() != null){
+            sql.append("email = :email, ");
+        }
+        sql.append("version = version + 1 where id = :id and version = :version");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("id", id)
+                .bind("version", expectedVersion);
+        if(patch.getFirstName() != null){
+            spec = spec.bind("firstName", patch.getFirstName());
+        }
+        if(patch.getLastName() != null){
+            spec = spec.bind("lastName", patch.getLastName());
+        }
+        if(patch.getEmail() != null){
+            spec = spec.bind("email", patch.getEmail());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    public Mono<Integer> deleteById(long id) {
+        return databaseClient.sql("delete from employees where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> deleteByIdIn(Collection<Long> ids) {
+        return databaseClient.sql("delete from employees where id in (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static Employee toEmployee(Row row) {
+        return Employee.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -1,9 +1,15 @@
 package io.dowlath.employee.service;
 
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
 import io.dowlath.employee.model.Employee;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /***
  * Author : Dowlath Basha G
@@ -12,8 +18,18 @@ import java.util.Optional;
  ***/
 public interface EmployeeService {
     Employee saveEmployee(Employee employee);
+    List<BulkItemResult> saveEmployees(List<Employee> employees);
     List<Employee> getAllEmployees();
+    List<EmployeeDto> getEmployeesAfter(long afterId, int limit);
+    List<EmployeeDto> suggestEmployees(String query, int limit);
+    EmployeeSearchResult searchEmployees(String query, int page, int size);
+    long getApproximateEmployeeCount();
+    void exportEmployees(Consumer<Employee> consumer);
     Optional<Employee> getEmployeeById(long id);
+    Optional<Long> getCachedEmployeeVersion(long id);
+    String getEmployeesVersion();
     Employee updateEmployee(Employee updatedEmployee);
-    void deleteEmployee(long id);
+    Optional<Long> patchEmployee(long id, EmployeePatch patch, long expectedVersion);
+    boolean deleteEmployee(long id);
+    int deleteEmployees(Collection<Long> ids);
 }
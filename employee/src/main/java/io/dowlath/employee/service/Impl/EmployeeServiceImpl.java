@@ -1,14 +1,49 @@
 package io.dowlath.employee.service.Impl;
 
-import io.dowlath.employee.exception.ResourceNotFoundException;
+import io.dowlath.employee.batch.EmployeeWriteBehindQueue;
+import io.dowlath.employee.cache.EmployeeCache;
+import io.dowlath.employee.cache.EmployeeCollectionVersion;
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.exception.PreconditionFailedException;
+import io.dowlath.employee.index.EmailBloomFilter;
+import io.dowlath.employee.index.EmployeeSearchIndex;
+import io.dowlath.employee.index.EmployeeSuggestIndex;
 import io.dowlath.employee.model.Employee;
 import io.dowlath.employee.repository.EmployeeRepository;
 import io.dowlath.employee.service.EmployeeService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /***
  * Author : Dowlath Basha G
@@ -16,40 +51,357 @@ import java.util.Optional;
  * Time   : 10:20 PM
  ***/
 @Service
+@Profile("!reactive")
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final String SERVICE_METRIC = "employee.service";
+
+    static final String DUPLICATE_EMAIL = "Email already exist in the given email : ";
+
     EmployeeRepository employeeRepository;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    EntityManager entityManager;
+
+    EmailBloomFilter emailBloomFilter;
+
+    EmployeeCache employeeCache;
+
+    EmployeeSuggestIndex employeeSuggestIndex;
+
+    EmployeeSearchIndex employeeSearchIndex;
+
+    EmployeeCollectionVersion employeeCollectionVersion;
+
+    ApplicationEventPublisher eventPublisher;
+
+    EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+    TransactionTemplate transactionTemplate;
+
+    // keeps IN lists of bulk deletes well below driver and database parameter limits
+    static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    // kept in line with hibernate.jdbc.batch_size : the persistence context is flushed and cleared every batch
+    @Value("${employee.bulk.batch-size:50}")
+    int batchSize = 50;
+
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EntityManager entityManager,
+                               EmailBloomFilter emailBloomFilter, EmployeeCache employeeCache,
+                               EmployeeSuggestIndex employeeSuggestIndex, EmployeeSearchIndex employeeSearchIndex,
+                               EmployeeCollectionVersion employeeCollectionVersion,
+                               ApplicationEventPublisher eventPublisher,
+                               EmployeeWriteBehindQueue employeeWriteBehindQueue,
+                               PlatformTransactionManager transactionManager) {
         this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.emailBloomFilter = emailBloomFilter;
+        this.employeeCache = employeeCache;
+        this.employeeSuggestIndex = employeeSuggestIndex;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.employeeCollectionVersion = employeeCollectionVersion;
+        this.eventPublisher = eventPublisher;
+        this.employeeWriteBehindQueue = employeeWriteBehindQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
+    @Timed(SERVICE_METRIC)
     public Employee saveEmployee(Employee employee) {
-        Optional<Employee> optionalEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if(optionalEmployee.isPresent()){
-            throw new ResourceNotFoundException("Email already exist in the given email"+employee.getEmail());
+        // a new email is the common case : the filter rules it out without a lookup and the insert goes straight in
+        if(emailBloomFilter.mightContain(employee.getEmail())){
+            Optional<Employee> optionalEmployee = employeeCache.getByEmail(employee.getEmail(),
+                    employeeRepository::findByEmail);
+            if(optionalEmployee.isPresent()){
+                throw new ConflictException(DUPLICATE_EMAIL + employee.getEmail());
+            }
+        }
+        if(employee.getId() == 0 && employeeWriteBehindQueue.isEnabled()){
+            // shares a commit with other creates. The queue runs afterSave once the batch commits, also when this
+            // caller stopped waiting before
+            return saveUniqueEmail(employee, () -> employeeWriteBehindQueue.save(employee, this::afterSave));
+        }
+        Employee savedEmployee = saveUniqueEmail(employee, () -> employeeRepository.save(employee));
+        afterSave(savedEmployee);
+        return savedEmployee;
+    }
+
+    private void afterSave(Employee savedEmployee) {
+        emailBloomFilter.put(savedEmployee.getEmail());
+        employeeCache.put(savedEmployee);
+        eventPublisher.publishEvent(EmployeeEvent.saved(savedEmployee));
+    }
+
+    // the unique index is the source of truth, a concurrent write with the same email loses here
+    private Employee saveUniqueEmail(Employee employee, Supplier<Employee> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException ex) {
+            if(isDuplicateEmail(ex)){
+                throw new ConflictException(DUPLICATE_EMAIL + employee.getEmail());
+            }
+            throw ex;
+        }
+    }
+
+    // emails compare without case, like the unique index on MySQL and the email filter
+    static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    // one transaction for the whole list. An email committed by a concurrent write between the check and the insert
+    // rolls it back at the flush : the items are then saved one transaction each, so only that one gets its 409
+    @Override
+    @Timed(SERVICE_METRIC)
+    public List<BulkItemResult> saveEmployees(List<Employee> employees) {
+        try {
+            return transactionTemplate.execute(status -> insertEmployees(employees));
+        } catch (DataIntegrityViolationException ex) {
+            if(!isDuplicateEmail(ex)){
+                throw ex;
+            }
+            return insertOneByOne(employees);
+        }
+    }
+
+    private List<BulkItemResult> insertEmployees(List<Employee> employees) {
+        Set<String> takenEmails = findTakenEmails(employees);
+        List<BulkItemResult> results = new ArrayList<>(employees.size());
+        int pending = 0;
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            if(employee == null || employee.getFirstName() == null || employee.getLastName() == null
+                    || employee.getEmail() == null){
+                results.add(BulkItemResult.builder().index(index).status(HttpStatus.BAD_REQUEST.value())
+                        .message("firstName, lastName and email are required").build());
+                continue;
+            }
+            // also rejects an email repeated within the same request, in any case
+            if(!takenEmails.add(emailKey(employee.getEmail()))){
+                results.add(BulkItemResult.builder().index(index).status(HttpStatus.CONFLICT.value())
+                        .message(DUPLICATE_EMAIL + employee.getEmail()).build());
+                continue;
+            }
+            employee.setId(0);
+            Employee savedEmployee = employeeRepository.save(employee);
+            results.add(BulkItemResult.builder().index(index).status(HttpStatus.CREATED.value())
+                    .id(savedEmployee.getId()).build());
+            emailBloomFilter.put(savedEmployee.getEmail());
+            // delivered once the transaction commits
+            eventPublisher.publishEvent(EmployeeEvent.saved(savedEmployee));
+            if(++pending % batchSize == 0){
+                // through the repository, which translates a constraint violation like the commit does
+                employeeRepository.flush();
+                entityManager.clear();
+            }
+        }
+        return results;
+    }
+
+    private List<BulkItemResult> insertOneByOne(List<Employee> employees) {
+        List<BulkItemResult> results = new ArrayList<>(employees.size());
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            BulkItemResult result;
+            try {
+                if(employee != null){
+                    // ids and versions assigned by the rolled back transaction are not kept
+                    employee.setVersion(0);
+                }
+                result = transactionTemplate.execute(status -> insertEmployees(Collections.singletonList(employee)))
+                        .get(0);
+            } catch (DataIntegrityViolationException ex) {
+                if(!isDuplicateEmail(ex)){
+                    throw ex;
+                }
+                result = BulkItemResult.builder().status(HttpStatus.CONFLICT.value())
+                        .message(DUPLICATE_EMAIL + employee.getEmail()).build();
+            }
+            result.setIndex(index);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private Set<String> findTakenEmails(List<Employee> employees) {
+        Set<String> takenEmails = new HashSet<>();
+        List<String> emails = new ArrayList<>(batchSize);
+        for (Employee employee : employees) {
+            if(employee != null && emailBloomFilter.mightContain(employee.getEmail())){
+                emails.add(employee.getEmail());
+            }
+            if(emails.size() == batchSize){
+                employeeRepository.findExistingEmails(emails).forEach(email -> takenEmails.add(emailKey(email)));
+                emails.clear();
+            }
+        }
+        if(!emails.isEmpty()){
+            employeeRepository.findExistingEmails(emails).forEach(email -> takenEmails.add(emailKey(email)));
         }
-        return employeeRepository.save(employee);
+        return takenEmails;
     }
 
     @Override
+    @Timed(SERVICE_METRIC)
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
     @Override
+    @Timed(SERVICE_METRIC)
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getEmployeesAfter(long afterId, int limit) {
+        return employeeRepository.findPageAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    // served from the in-memory trie, the database is not queried
+    @Override
+    @Timed(SERVICE_METRIC)
+    public List<EmployeeDto> suggestEmployees(String query, int limit) {
+        return employeeSuggestIndex.suggest(query, limit);
+    }
+
+    // ranked full-text search on the embedded Lucene index instead of LIKE scans of the table
+    @Override
+    @Timed(SERVICE_METRIC)
+    public EmployeeSearchResult searchEmployees(String query, int page, int size) {
+        return employeeSearchIndex.search(query, page, size);
+    }
+
+    @Override
+    @Timed(SERVICE_METRIC)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getApproximateEmployeeCount() {
+        // table statistics are MySQL specific, fall back to an exact count on other databases. No transaction around
+        // the two : a failed statistics query would mark it rollback-only and fail the count as well
+        try {
+            Long approximateCount = employeeRepository.findApproximateCount();
+            if(approximateCount != null){
+                return approximateCount;
+            }
+        } catch (DataAccessException ex) {
+            // statistics not available
+        }
+        return employeeRepository.count();
+    }
+
+    @Override
+    @Timed(SERVICE_METRIC)
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            // detach every row once written so the persistence context stays empty however large the table is
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    @Override
+    @Timed(SERVICE_METRIC)
     public Optional<Employee> getEmployeeById(long id) {
-        return employeeRepository.findById(id);
+        // no transaction here : a cache hit must not take a connection, and the lookup manages no entity anyway
+        return employeeCache.getById(id, employeeRepository::findDetachedById);
+    }
+
+    // answers conditional GETs of polling clients from memory : the cache is evicted on every write of the employee
+    @Override
+    public Optional<Long> getCachedEmployeeVersion(long id) {
+        return employeeCache.getVersion(id);
+    }
+
+    @Override
+    public String getEmployeesVersion() {
+        return employeeCollectionVersion.current();
     }
 
     @Override
+    @Timed(SERVICE_METRIC)
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        Employee savedEmployee;
+        try {
+            savedEmployee = saveUniqueEmail(updatedEmployee, () -> employeeRepository.save(updatedEmployee));
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            // the cached copy was behind the database, the next read reloads it
+            employeeCache.evict(updatedEmployee.getId());
+            throw new ConflictException("Employee " + updatedEmployee.getId() + " was modified concurrently", ex);
+        }
+        // evict first so the email index entry of the previous email goes too
+        employeeCache.evict(savedEmployee.getId());
+        employeeCache.put(savedEmployee);
+        // the previous email may have been freed, it stays in the filter until the next rebuild
+        emailBloomFilter.markStale();
+        emailBloomFilter.put(savedEmployee.getEmail());
+        eventPublisher.publishEvent(EmployeeEvent.saved(savedEmployee));
+        return savedEmployee;
+    }
+
+    @Override
+    @Timed(SERVICE_METRIC)
+    public Optional<Long> patchEmployee(long id, EmployeePatch patch, long expectedVersion) {
+        int updatedRows;
+        try {
+            updatedRows = employeeRepository.patch(id, patch, expectedVersion);
+        } catch (DataIntegrityViolationException ex) {
+            if(isDuplicateEmail(ex)){
+                throw new ConflictException(DUPLICATE_EMAIL + patch.getEmail(), ex);
+            }
+            throw ex;
+        }
+        if(updatedRows == 0){
+            // the extra lookup only happens on the failure path
+            if(!employeeRepository.existsById(id)){
+                return Optional.empty();
+            }
+            throw new PreconditionFailedException("Employee " + id + " is no longer at version " + expectedVersion);
+        }
+        employeeCache.evict(id);
+        if(patch.getEmail() != null){
+            emailBloomFilter.markStale();
+            emailBloomFilter.put(patch.getEmail());
+        }
+        eventPublisher.publishEvent(EmployeeEvent.patched(id, patch, expectedVersion + 1));
+        return Optional.of(expectedVersion + 1);
     }
 
     @Override
-    public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+    @Timed(SERVICE_METRIC)
+    public boolean deleteEmployee(long id) {
+        boolean deleted = employeeRepository.deleteEmployeeById(id) > 0;
+        employeeCache.evict(id);
+        if(deleted){
+            emailBloomFilter.markStale();
+            eventPublisher.publishEvent(EmployeeEvent.deleted(id));
+        }
+        return deleted;
+    }
+
+    @Override
+    @Timed(SERVICE_METRIC)
+    @Transactional
+    public int deleteEmployees(Collection<Long> ids) {
+        int deleted = 0;
+        List<Long> chunk = new ArrayList<>(MAX_IDS_PER_STATEMENT);
+        for (Long id : ids) {
+            chunk.add(id);
+            if(chunk.size() == MAX_IDS_PER_STATEMENT){
+                deleted += employeeRepository.deleteEmployeesByIdIn(chunk);
+                chunk.clear();
+            }
+        }
+        if(!chunk.isEmpty()){
+            deleted += employeeRepository.deleteEmployeesByIdIn(chunk);
+        }
+        emailBloomFilter.markStale(deleted);
+        // delivered once the transaction commits, which is also when EmployeeCache evicts them. Unknown ids are
+        // no-ops for the listeners
+        ids.forEach(id -> eventPublisher.publishEvent(EmployeeEvent.deleted(id)));
+        return deleted;
     }
 }
@@ -0,0 +1,156 @@
+package io.dowlath.employee.service.Impl;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.exception.PreconditionFailedException;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.ReactiveEmployeeRepository;
+import io.dowlath.employee.service.ReactiveEmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:10 AM
+ ***/
+// R2DBC counterpart of EmployeeServiceImpl : nothing blocks, so a few event-loop threads serve every request.
+// The Caffeine cache and the email Bloom filter have blocking loaders and are not used here, the unique index on
+// email is the only duplicate check.
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    ReactiveEmployeeRepository employeeRepository;
+
+    public ReactiveEmployeeServiceImpl(ReactiveEmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return employeeRepository.insert(employee)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> duplicateEmail(ex, employee.getEmail()));
+    }
+
+    private static Throwable duplicateEmail(DataIntegrityViolationException ex, String email) {
+        if(EmployeeServiceImpl.isDuplicateEmail(ex)){
+            return new ConflictException(EmployeeServiceImpl.DUPLICATE_EMAIL + email);
+        }
+        return ex;
+    }
+
+    @Override
+    @Transactional
+    public Flux<BulkItemResult> saveEmployees(List<Employee> employees) {
+        return findTakenEmails(employees).flatMapMany(takenEmails -> Flux.range(0, employees.size())
+                // one item at a time, in request order, on the transaction's connection
+                .concatMap(index -> {
+                    Employee employee = employees.get(index);
+                    if(employee == null || employee.getFirstName() == null || employee.getLastName() == null
+                            || employee.getEmail() == null){
+                        return Mono.just(BulkItemResult.builder().index(index).status(HttpStatus.BAD_REQUEST.value())
+                                .message("firstName, lastName and email are required").build());
+                    }
+                    // also rejects an email repeated within the same request, in any case
+                    if(!takenEmails.add(EmployeeServiceImpl.emailKey(employee.getEmail()))){
+                        return Mono.just(BulkItemResult.builder().index(index).status(HttpStatus.CONFLICT.value())
+                                .message(EmployeeServiceImpl.DUPLICATE_EMAIL + employee.getEmail()).build());
+                    }
+                    return employeeRepository.insert(employee)
+                            .map(savedEmployee -> BulkItemResult.builder().index(index)
+                                    .status(HttpStatus.CREATED.value()).id(savedEmployee.getId()).build());
+                }));
+    }
+
+    private Mono<Set<String>> findTakenEmails(List<Employee> employees) {
+        return Flux.fromIterable(employees)
+                .filter(employee -> employee != null && employee.getEmail() != null)
+                .map(Employee::getEmail)
+                .buffer(EmployeeServiceImpl.MAX_IDS_PER_STATEMENT)
+                .concatMap(employeeRepository::findExistingEmails)
+                .map(EmployeeServiceImpl::emailKey)
+                .collect(HashSet::new, Set::add);
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesAfter(long afterId, int limit) {
+        return employeeRepository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Mono<Long> getEmployeeCount() {
+        return employeeRepository.count();
+    }
+
+    @Override
+    public Flux<Employee> exportEmployees() {
+        return employeeRepository.findAll();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee updatedEmployee) {
+        return employeeRepository.update(updatedEmployee)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> duplicateEmail(ex, updatedEmployee.getEmail()))
+                .flatMap(updatedRows -> {
+                    if(updatedRows == 0){
+                        return Mono.error(new ConflictException(
+                                "Employee " + updatedEmployee.getId() + " was modified concurrently"));
+                    }
+                    return Mono.just(updatedEmployee.toBuilder().version(updatedEmployee.getVersion() + 1).build());
+                });
+    }
+
+    @Override
+    public Mono<Long> patchEmployee(long id, EmployeePatch patch, long expectedVersion) {
+        return employeeRepository.patch(id, patch, expectedVersion)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> {
+                    if(EmployeeServiceImpl.isDuplicateEmail(ex)){
+                        return new ConflictException(EmployeeServiceImpl.DUPLICATE_EMAIL + patch.getEmail(), ex);
+                    }
+                    return ex;
+                })
+                .flatMap(updatedRows -> {
+                    if(updatedRows > 0){
+                        return Mono.just(expectedVersion + 1);
+                    }
+                    // the extra lookup only happens on the failure path
+                    return employeeRepository.existsById(id).flatMap(exists -> exists
+                            ? Mono.<Long>error(new PreconditionFailedException(
+                                    "Employee " + id + " is no longer at version " + expectedVersion))
+                            : Mono.empty());
+                });
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(long id) {
+        return employeeRepository.deleteById(id).map(deletedRows -> deletedRows > 0);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Integer> deleteEmployees(Collection<Long> ids) {
+        return Flux.fromIterable(ids)
+                .buffer(EmployeeServiceImpl.MAX_IDS_PER_STATEMENT)
+                .concatMap(employeeRepository::deleteByIdIn)
+                .reduce(0, Integer::sum);
+    }
+}
@@ -0,0 +1,323 @@
+package io.dowlath.employee.service.Impl;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import io.dowlath.employee.service.EmployeeService;
+import io.dowlath.employee.shard.EmailShardDirectory;
+import io.dowlath.employee.shard.Shard;
+import io.dowlath.employee.shard.ShardContext;
+import io.dowlath.employee.shard.ShardRouter;
+import io.dowlath.employee.shard.ShardRoutingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:55 AM
+ ***/
+// employee.sharding.enabled=true : EmployeeServiceImpl run against the shard that holds the employee. New employees
+// are spread round-robin and get an id the router maps back to their shard, lookups by id go straight to one shard,
+// lists are gathered from all shards in parallel. Email uniqueness across shards comes from the email directory
+@Service
+@Primary
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employee.sharding.enabled", havingValue = "true")
+public class ShardedEmployeeService implements EmployeeService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedEmployeeService.class);
+
+
+    EmployeeServiceImpl employeeService;
+
+    EmployeeRepository employeeRepository;
+
+    EmailShardDirectory emailShardDirectory;
+
+    ShardRouter shardRouter;
+
+    private final List<Shard> shards;
+
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    // shared by all requests and bounded, nothing queues : when every thread is busy the request thread runs the shard
+    // call itself, so a scatter is never held up behind the shard calls of other requests, at worst it is sequential
+    private final ExecutorService scatterExecutor;
+
+    public ShardedEmployeeService(EmployeeServiceImpl employeeService, EmployeeRepository employeeRepository,
+                                  EmailShardDirectory emailShardDirectory, ShardRoutingDataSource shardRoutingDataSource,
+                                  ShardRouter shardRouter,
+                                  @Value("${employee.sharding.scatter-threads:64}") int scatterThreads) {
+        this.employeeService = employeeService;
+        this.employeeRepository = employeeRepository;
+        this.emailShardDirectory = emailShardDirectory;
+        this.shardRouter = shardRouter;
+        List<Shard> shards = new ArrayList<>(shardRouter.shardCount());
+        for (int i = 0; i < shardRouter.shardCount(); i++) {
+            shards.add(new Shard(i, shardRoutingDataSource.getShard(i), shardRouter));
+        }
+        this.shards = Collections.unmodifiableList(shards);
+        AtomicInteger threads = new AtomicInteger();
+        this.scatterExecutor = new ThreadPoolExecutor(scatterThreads, scatterThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "employee-shard-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        ((ThreadPoolExecutor) scatterExecutor).allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Employee saveEmployee(Employee employee) {
+        Shard shard = shards.get(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+        if(employee.getEmail() != null && !emailShardDirectory.claim(employee.getEmail(), shard.getIndex())){
+            throw new ConflictException(EmployeeServiceImpl.DUPLICATE_EMAIL + employee.getEmail());
+        }
+        try {
+            return ShardContext.on(shard, () -> employeeService.saveEmployee(employee));
+        } catch (RuntimeException ex) {
+            releaseEmail(employee.getEmail());
+            throw ex;
+        }
+    }
+
+    // items are claimed and dealt out to the shards, each shard saves its part as one bulk insert. A shard failing
+    // only fails its own items, with a 503 each : its transaction rolled back, their emails are released
+    @Override
+    public List<BulkItemResult> saveEmployees(List<Employee> employees) {
+        List<BulkItemResult> results = new ArrayList<>(Collections.nCopies(employees.size(), null));
+        List<List<Integer>> indexesByShard = new ArrayList<>(shards.size());
+        shards.forEach(shard -> indexesByShard.add(new ArrayList<>()));
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            int shard = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+            // incomplete items still go to a shard, which reports them
+            if(employee != null && employee.getEmail() != null && !emailShardDirectory.claim(employee.getEmail(), shard)){
+                results.set(index, BulkItemResult.builder().index(index).status(HttpStatus.CONFLICT.value())
+                        .message(EmployeeServiceImpl.DUPLICATE_EMAIL + employee.getEmail()).build());
+                continue;
+            }
+            indexesByShard.get(shard).add(index);
+        }
+        scatter(shard -> {
+            List<Integer> indexes = indexesByShard.get(shard.getIndex());
+            List<Employee> shardEmployees = indexes.stream().map(employees::get).collect(Collectors.toList());
+            List<BulkItemResult> shardResults;
+            try {
+                shardResults = shardEmployees.isEmpty() ? Collections.emptyList()
+                        : employeeService.saveEmployees(shardEmployees);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Bulk insert on shard {} failed", shard.getIndex(), ex);
+                for (int index : indexes) {
+                    Employee employee = employees.get(index);
+                    releaseEmail(employee == null ? null : employee.getEmail());
+                    results.set(index, BulkItemResult.builder().index(index)
+                            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                            .message("Shard " + shard.getIndex() + " is unavailable, retry later").build());
+                }
+                return null;
+            }
+            for (BulkItemResult result : shardResults) {
+                int index = indexes.get(result.getIndex());
+                if(result.getStatus() != HttpStatus.CREATED.value()){
+                    Employee employee = employees.get(index);
+                    releaseEmail(employee == null ? null : employee.getEmail());
+                }
+                result.setIndex(index);
+                results.set(index, result);
+            }
+            return null;
+        });
+        return results;
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return scatter(shard -> employeeService.getAllEmployees()).stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingLong(Employee::getId))
+                .collect(Collectors.toList());
+    }
+
+    // every shard returns its first limit rows after the cursor, the page is the first limit of all of them
+    @Override
+    public List<EmployeeDto> getEmployeesAfter(long afterId, int limit) {
+        return scatter(shard -> employeeService.getEmployeesAfter(afterId, limit)).stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingLong(EmployeeDto::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<EmployeeDto> suggestEmployees(String query, int limit) {
+        return employeeService.suggestEmployees(query, limit);
+    }
+
+    @Override
+    public EmployeeSearchResult searchEmployees(String query, int page, int size) {
+        return employeeService.searchEmployees(query, page, size);
+    }
+
+    @Override
+    public long getApproximateEmployeeCount() {
+        return scatter(shard -> employeeService.getApproximateEmployeeCount()).stream().mapToLong(Long::longValue).sum();
+    }
+
+    // one shard after the other on the calling thread, the consumer is not expected to be thread safe
+    @Override
+    public void exportEmployees(Consumer<Employee> consumer) {
+        for (Shard shard : shards) {
+            ShardContext.on(shard, () -> {
+                employeeService.exportEmployees(consumer);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return ShardContext.on(shardOf(id), () -> employeeService.getEmployeeById(id));
+    }
+
+    @Override
+    public Optional<Long> getCachedEmployeeVersion(long id) {
+        return employeeService.getCachedEmployeeVersion(id);
+    }
+
+    @Override
+    public String getEmployeesVersion() {
+        return employeeService.getEmployeesVersion();
+    }
+
+    @Override
+    public Employee updateEmployee(Employee updatedEmployee) {
+        Shard shard = shardOf(updatedEmployee.getId());
+        return changeEmail(shard, updatedEmployee.getId(), updatedEmployee.getEmail(),
+                () -> Optional.of(employeeService.updateEmployee(updatedEmployee))).get();
+    }
+
+    @Override
+    public Optional<Long> patchEmployee(long id, EmployeePatch patch, long expectedVersion) {
+        return changeEmail(shardOf(id), id, patch.getEmail(),
+                () -> employeeService.patchEmployee(id, patch, expectedVersion));
+    }
+
+    // the new email is claimed before the write and the previous one released after it, so the employee holds at
+    // least one of them at any time
+    private <T> Optional<T> changeEmail(Shard shard, long id, String email, Supplier<Optional<T>> write) {
+        String previousEmail = email == null ? null
+                : ShardContext.on(shard, () -> employeeService.getEmployeeById(id)).map(Employee::getEmail).orElse(null);
+        boolean claimed = email != null && !email.equals(previousEmail);
+        if(claimed && !emailShardDirectory.claim(email, shard.getIndex())){
+            throw new ConflictException(EmployeeServiceImpl.DUPLICATE_EMAIL + email);
+        }
+        Optional<T> written;
+        try {
+            written = ShardContext.on(shard, write);
+        } catch (RuntimeException ex) {
+            if(claimed){
+                releaseEmail(email);
+            }
+            throw ex;
+        }
+        if(claimed){
+            releaseEmail(written.isPresent() ? previousEmail : email);
+        }
+        return written;
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        Shard shard = shardOf(id);
+        Optional<Employee> employee = ShardContext.on(shard, () -> employeeService.getEmployeeById(id));
+        boolean deleted = ShardContext.on(shard, () -> employeeService.deleteEmployee(id));
+        if(deleted){
+            employee.ifPresent(deletedEmployee -> releaseEmail(deletedEmployee.getEmail()));
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteEmployees(Collection<Long> ids) {
+        List<List<Long>> idsByShard = new ArrayList<>(shards.size());
+        shards.forEach(shard -> idsByShard.add(new ArrayList<>()));
+        ids.forEach(id -> idsByShard.get(shardRouter.shardOf(id)).add(id));
+        return scatter(shard -> {
+            List<Long> shardIds = idsByShard.get(shard.getIndex());
+            if(shardIds.isEmpty()){
+                return 0;
+            }
+            List<Employee> employees = employeeRepository.findAllById(shardIds);
+            int deleted = employeeService.deleteEmployees(shardIds);
+            employees.forEach(employee -> releaseEmail(employee.getEmail()));
+            return deleted;
+        }).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private Shard shardOf(long id) {
+        return shards.get(shardRouter.shardOf(id));
+    }
+
+    private void releaseEmail(String email) {
+        if(email != null){
+            emailShardDirectory.release(email);
+        }
+    }
+
+    // the same work on every shard at once, results in shard order. Shard 0 runs on the calling thread, which has
+    // nothing else to do meanwhile
+    private <T> List<T> scatter(Function<Shard, T> work) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .skip(1)
+                .map(shard -> CompletableFuture.supplyAsync(() -> ShardContext.on(shard, () -> work.apply(shard)),
+                        scatterExecutor))
+                .collect(Collectors.toList());
+        try {
+            List<T> results = new ArrayList<>(shards.size());
+            results.add(ShardContext.on(shards.get(0), () -> work.apply(shards.get(0))));
+            futures.forEach(future -> results.add(future.join()));
+            return results;
+        } catch (CompletionException ex) {
+            if(ex.getCause() instanceof RuntimeException){
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        scatterExecutor.shutdown();
+    }
+}
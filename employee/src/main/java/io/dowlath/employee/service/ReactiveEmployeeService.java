@@ -0,0 +1,28 @@
+package io.dowlath.employee.service;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.model.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:05 AM
+ ***/
+public interface ReactiveEmployeeService {
+    Mono<Employee> saveEmployee(Employee employee);
+    Flux<BulkItemResult> saveEmployees(List<Employee> employees);
+    Flux<Employee> getEmployeesAfter(long afterId, int limit);
+    Mono<Long> getEmployeeCount();
+    Flux<Employee> exportEmployees();
+    Mono<Employee> getEmployeeById(long id);
+    Mono<Employee> updateEmployee(Employee updatedEmployee);
+    Mono<Long> patchEmployee(long id, EmployeePatch patch, long expectedVersion);
+    Mono<Boolean> deleteEmployee(long id);
+    Mono<Integer> deleteEmployees(Collection<Long> ids);
+}
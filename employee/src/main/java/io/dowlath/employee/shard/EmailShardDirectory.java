@@ -0,0 +1,41 @@
+package io.dowlath.employee.shard;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:45 AM
+ ***/
+// global email -> shard index, kept on shard 0 : the unique index of each shard only sees its own emails, the primary
+// key of this table is what keeps an email unique across all of them. An email is claimed before the employee is
+// written and released once it no longer is in use. The table comes from the V4 migration
+public class EmailShardDirectory {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmailShardDirectory(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // false when another employee holds the email
+    public boolean claim(String email, int shard) {
+        try {
+            jdbcTemplate.update("insert into employee_email_shards (email, shard) values (?, ?)", email, shard);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    public void release(String email) {
+        jdbcTemplate.update("delete from employee_email_shards where email = ?", email);
+    }
+
+    public long size() {
+        return jdbcTemplate.queryForObject("select count(*) from employee_email_shards", Long.class);
+    }
+}
@@ -0,0 +1,21 @@
+package io.dowlath.employee.shard;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.io.Serializable;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:40 AM
+ ***/
+// employee ids : from the pooled employees_seq sequence, or when inserting on a shard an id that routes back to it
+public class EmployeeIdGenerator extends SequenceStyleGenerator {
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        Shard shard = ShardContext.current();
+        return shard == null ? super.generate(session, object) : shard.newId();
+    }
+}
@@ -0,0 +1,35 @@
+package io.dowlath.employee.shard;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:20 AM
+ ***/
+// the shard is written into the id : id = local id * shardCount + shard. Local ids count up on every shard, so the
+// employees are spread as evenly as they are created, and ids stay below 2^53 up to 2^53 / shardCount per shard
+public class ModuloShardRouter implements ShardRouter {
+
+    private final int shardCount;
+
+    public ModuloShardRouter(int shardCount) {
+        if(shardCount < 1){
+            throw new IllegalArgumentException("At least one shard is needed, got " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Override
+    public int shardOf(long id) {
+        return (int) Long.remainderUnsigned(id, shardCount);
+    }
+
+    @Override
+    public long idOf(int shard, long localId) {
+        return Math.addExact(Math.multiplyExact(localId, (long) shardCount), shard);
+    }
+}
@@ -0,0 +1,80 @@
+package io.dowlath.employee.shard;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:30 AM
+ ***/
+// one of the shard databases, and the ids of the employees created on it : local ids come in blocks of BLOCK_SIZE out
+// of the employees_seq of the shard, the router turns them into ids that map back to the shard. No clock, no worker
+// id, one round trip per block
+public final class Shard {
+
+    // the increment of employees_seq in the V3 migration
+    static final int BLOCK_SIZE = 50;
+
+    // H2 has a sequence. MySQL has none, employees_seq is a one-row table moved past in one update and read back from
+    // the same connection with last_insert_id()
+    static final String H2_NEXT_BLOCK = "select next value for employees_seq";
+    static final String MYSQL_TAKE_BLOCK = "update employees_seq set next_val = last_insert_id(next_val) + "
+            + BLOCK_SIZE;
+    static final String MYSQL_TAKEN_BLOCK = "select last_insert_id()";
+
+    private final int index;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ShardRouter shardRouter;
+
+    private long nextLocalId;
+
+    private long blockEnd;
+
+    public Shard(int index, DataSource dataSource, ShardRouter shardRouter) {
+        this.index = index;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.shardRouter = shardRouter;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public synchronized long newId() {
+        if(nextLocalId == blockEnd){
+            nextLocalId = takeBlock();
+            blockEnd = nextLocalId + BLOCK_SIZE;
+        }
+        return shardRouter.idOf(index, nextLocalId++);
+    }
+
+    // the first local id of a block no other instance holds. The raw pool of the shard is not bound to the transaction
+    // of the insert, so the block stays taken when that insert rolls back
+    private long takeBlock() {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                if(!connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql")){
+                    return first(statement.executeQuery(H2_NEXT_BLOCK));
+                }
+                statement.executeUpdate(MYSQL_TAKE_BLOCK);
+                return first(statement.executeQuery(MYSQL_TAKEN_BLOCK));
+            }
+        });
+    }
+
+    private static long first(ResultSet resultSet) throws SQLException {
+        try (ResultSet rows = resultSet) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+}
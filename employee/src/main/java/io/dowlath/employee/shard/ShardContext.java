@@ -0,0 +1,38 @@
+package io.dowlath.employee.shard;
+
+import java.util.function.Supplier;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:30 AM
+ ***/
+// shard of the work running on the current thread, read by ShardRoutingDataSource when a connection is taken and by
+// EmployeeIdGenerator when an employee is inserted. Set it before the transaction starts : a transaction stays on the
+// connection it began with
+public final class ShardContext {
+
+    private static final ThreadLocal<Shard> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    // null outside of sharded work
+    public static Shard current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T on(Shard shard, Supplier<T> work) {
+        Shard previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if(previous == null){
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
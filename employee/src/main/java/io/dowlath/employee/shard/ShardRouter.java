@@ -0,0 +1,17 @@
+package io.dowlath.employee.shard;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:20 AM
+ ***/
+// which shard holds an employee, from its id alone. Declare a bean of this type to replace the modulo routing
+public interface ShardRouter {
+
+    int shardCount();
+
+    int shardOf(long id);
+
+    // the id of an employee created on the shard, unique for each local id of that shard : shardOf gives the shard back
+    long idOf(int shard, long localId);
+}
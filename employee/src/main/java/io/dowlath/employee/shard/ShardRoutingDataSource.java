@@ -0,0 +1,58 @@
+package io.dowlath.employee.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:35 AM
+ ***/
+// connections of the shard in ShardContext, shard 0 for anything unrouted (migrations, health checks)
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = new ArrayList<>(shards);
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targetDataSources.put(i, shards.get(i));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public DataSource getShard(int index) {
+        return shards.get(index);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Shard shard = ShardContext.current();
+        return shard == null ? 0 : shard.getIndex();
+    }
+
+    // shard 0 is the spring.datasource pool, a bean of its own
+    @Override
+    public void close() throws IOException {
+        for (DataSource shard : shards.subList(1, shards.size())) {
+            if(shard instanceof Closeable){
+                ((Closeable) shard).close();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.dowlath.employee.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:20 PM
+ ***/
+// logs where the startup went once the application is ready : every phase of SpringApplication.run and the slowest
+// beans, each one without the beans it waited for. Only when started from EmployeeApplication.main, which records
+// the steps, the whole timeline is also served at /actuator/startup
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupReport.class);
+
+    static final String BEAN_STEP = "spring.beans.instantiate";
+
+    // phases nested deeper are left out of the report, /actuator/startup has them all
+    private static final int PHASE_DEPTH = 1;
+
+    private final int size;
+
+    public StartupReport(@Value("${employee.startup.report-size:10}") int size) {
+        this.size = size;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if(size > 0 && startup instanceof BufferingApplicationStartup){
+            LOGGER.info("Startup report{}{}", System.lineSeparator(),
+                    report(((BufferingApplicationStartup) startup).getBufferedTimeline(), Instant.now()));
+        }
+    }
+
+    String report(StartupTimeline timeline, Instant ready) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        // time spent creating the beans each bean depends on
+        Map<Long, Duration> dependencyDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if(parentId != null && BEAN_STEP.equals(event.getStartupStep().getName())){
+                dependencyDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%8d ms  ready%n", Duration.between(timeline.getStartTime(), ready).toMillis()));
+        // phases in the order they ran with the phases within them, the ones run while creating a bean are part of
+        // that bean
+        Map<Long, StartupStep> steps = new HashMap<>();
+        events.forEach(event -> steps.put(event.getStartupStep().getId(), event.getStartupStep()));
+        events.stream()
+                .filter(event -> !BEAN_STEP.equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getStartTime))
+                .forEach(event -> {
+                    int depth = phaseDepth(event.getStartupStep(), steps);
+                    if(depth == 0 || depth > 0 && depth <= PHASE_DEPTH && event.getDuration().toMillis() > 0){
+                        report.append(String.format("%8d ms  %s%s%n", event.getDuration().toMillis(),
+                                indent(depth), event.getStartupStep().getName()));
+                    }
+                });
+        List<String> beans = events.stream()
+                .filter(event -> BEAN_STEP.equals(event.getStartupStep().getName()))
+                .map(event -> new BeanTime(beanName(event.getStartupStep()), event.getDuration()
+                        .minus(dependencyDurations.getOrDefault(event.getStartupStep().getId(), Duration.ZERO))))
+                .sorted(Comparator.comparing((BeanTime bean) -> bean.time).reversed())
+                .limit(size)
+                .map(bean -> String.format("%8d ms  %s", bean.time.toMillis(), bean.name))
+                .collect(Collectors.toList());
+        if(!beans.isEmpty()){
+            report.append(String.format("slowest beans, without the beans they waited for :%n"));
+            beans.forEach(bean -> report.append(bean).append(System.lineSeparator()));
+        }
+        return report.toString();
+    }
+
+    // -1 within a bean
+    private static int phaseDepth(StartupStep step, Map<Long, StartupStep> steps) {
+        int depth = 0;
+        StartupStep parent = steps.get(step.getParentId());
+        while (parent != null) {
+            if(BEAN_STEP.equals(parent.getName())){
+                return -1;
+            }
+            depth++;
+            parent = steps.get(parent.getParentId());
+        }
+        return depth;
+    }
+
+    private static String indent(int depth) {
+        StringBuilder indent = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            indent.append("  ");
+        }
+        return indent.toString();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if("beanName".equals(tag.getKey())){
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static final class BeanTime {
+
+        private final String name;
+
+        private final Duration time;
+
+        private BeanTime(String name, Duration time) {
+            this.name = name;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- employees as the first Employee entity had them under ddl-auto=update : identity ids, no version, no unique email.
+-- Databases created that way are baselined here, V3 brings both up to the current mapping
+create table employees (
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    primary key (id)
+);
@@ -0,0 +1,2 @@
+-- lookups by first and last name (findByJPQL, findByNativeSQL and their named variants)
+create index idx_employees_name on employees (first_name, last_name);
@@ -0,0 +1,9 @@
+-- optimistic locking version, one employee per email, and pooled ids from employees_seq instead of the identity.
+-- The sequence starts past the ids already handed out. Fails on a table holding the same email twice, those rows
+-- have to be merged first
+alter table employees add column version bigint default 0 not null;
+alter table employees add constraint uk_employees_email unique (email);
+alter table employees alter column id bigint not null;
+
+create sequence employees_seq start with 1 increment by 50;
+alter sequence employees_seq restart with (select coalesce(max(id), 0) + 50 from employees);
@@ -0,0 +1,7 @@
+-- email -> shard directory of employee.sharding.enabled=true, only used on shard 0. Created on every database so all
+-- of them stay at the same version
+create table employee_email_shards (
+    email varchar(255) not null,
+    shard int not null,
+    primary key (email)
+);
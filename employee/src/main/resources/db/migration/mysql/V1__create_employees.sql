@@ -0,0 +1,10 @@
+-- employees as the first Employee entity had them under ddl-auto=update with MySQL5Dialect : auto_increment ids, no
+-- version, no unique email, MyISAM. Databases created that way are baselined here, V3 brings both up to the current
+-- mapping
+create table employees (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    primary key (id)
+) engine=MyISAM;
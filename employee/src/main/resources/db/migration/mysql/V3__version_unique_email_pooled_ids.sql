@@ -0,0 +1,14 @@
+-- optimistic locking version, one employee per email, and pooled ids from employees_seq instead of auto_increment.
+-- MySQL has no sequences : employees_seq is the one-row table Hibernate hands pooled ids out of, it starts past the ids
+-- already handed out. InnoDB for transactions, MyISAM ignores them. Fails on a table holding the same email twice,
+-- those rows have to be merged first
+alter table employees engine=InnoDB;
+alter table employees add column version bigint not null default 0;
+alter table employees add constraint uk_employees_email unique (email);
+alter table employees modify id bigint not null;
+
+create table employees_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into employees_seq select coalesce(max(id), 0) + 50 from employees;
@@ -0,0 +1,183 @@
+package io.dowlath.employee.batch;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:50 PM
+ ***/
+public class EmployeeCsvImporterTests {
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+
+    private final EmployeeCsvImporter employeeCsvImporter = new EmployeeCsvImporter(employeeService, 2, 2);
+
+    @AfterEach
+    public void tearDown() {
+        employeeCsvImporter.close();
+    }
+
+    // created, or 409 for the emails the table already holds
+    private static List<BulkItemResult> save(List<Employee> employees) {
+        List<BulkItemResult> results = new ArrayList<>();
+        for (int index = 0; index < employees.size(); index++) {
+            boolean taken = employees.get(index).getEmail().startsWith("taken");
+            results.add(BulkItemResult.builder().index(index)
+                    .status(taken ? HttpStatus.CONFLICT.value() : HttpStatus.CREATED.value())
+                    .message(taken ? "Email already exist" : null).build());
+        }
+        return results;
+    }
+
+    // JUnit test for valid rows saved in batches, the others rejected with their row
+    @Test
+    @DisplayName("JUnit test for CSV import saves valid rows in batches and rejects the others by row")
+    public void givenMixedRows_whenImport_thenValidRowsSavedInBatches() {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> save(invocation.getArgument(0)));
+        String csv = "EMAIL,firstName,lastName,department\n"
+                + "ramesh@mail.com,Ramesh,Fadatare,IT\n"
+                + "john@mail.com,,Cena,IT\n"
+                + "\n"
+                + "tony@mail.com,Tony,Stark,IT\n"
+                + "RAMESH@mail.com,Ramesh,Again,IT\n"
+                + "taken@mail.com,Taken,Already,IT\n"
+                + "steve@mail.com,Steve,Rogers\n";
+
+        // when  - action or the behaviour that we are going test
+        EmployeeImportJob job = employeeCsvImporter.importEmployees(new StringReader(csv));
+
+        // then  - verify the output
+        assertThat(job.getState()).isEqualTo(EmployeeImportJob.State.COMPLETED);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(job.getRowsRead()).isEqualTo(6);
+        assertThat(job.getRowsImported()).isEqualTo(3);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(job.getErrors()).extracting(EmployeeImportJob.RowError::getRow).containsExactlyInAnyOrder(3L, 5L, 6L);
+        verify(employeeService, times(2)).saveEmployees(anyList());
+        assertThat(employeeCsvImporter.getJob(job.getId())).contains(job);
+    }
+
+    // JUnit test for a file without the required columns
+    @Test
+    @DisplayName("JUnit test for CSV import rejects a file missing a required column without saving")
+    public void givenMissingColumn_whenImport_thenRejected() {
+        // given - precondition or setup
+        String csv = "firstName,lastName\nRamesh,Fadatare\n";
+
+        // when  - action or the behaviour that we are going test
+        EmployeeImportJob job = employeeCsvImporter.importEmployees(new StringReader(csv));
+
+        // then  - verify the output
+        assertThat(job.getState()).isEqualTo(EmployeeImportJob.State.REJECTED);
+        assertThat(job.getMessage()).contains("email");
+        verify(employeeService, never()).saveEmployees(anyList());
+    }
+
+    // JUnit test for a rolled back batch left to the service
+    @Test
+    @DisplayName("JUnit test for CSV import does not retry a batch the bulk save failed")
+    public void givenBatchRolledBack_whenImport_thenFailedWithoutRetry() {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willThrow(new DataIntegrityViolationException("uk_employees_email"));
+        String csv = "firstName,lastName,email\nRamesh,Fadatare,ramesh@mail.com\nTaken,Already,taken@mail.com\n";
+
+        // when  - action or the behaviour that we are going test
+        EmployeeImportJob job = employeeCsvImporter.importEmployees(new StringReader(csv));
+
+        // then  - verify the output
+        assertThat(job.getState()).isEqualTo(EmployeeImportJob.State.FAILED);
+        verify(employeeService, times(1)).saveEmployees(anyList());
+        verify(employeeService, never()).saveEmployee(any(Employee.class));
+    }
+
+    // JUnit test for a batch that cannot be written
+    @Test
+    @DisplayName("JUnit test for CSV import fails and stops reading when a batch cannot be written")
+    public void givenFailingWrites_whenImport_thenFailed() {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willThrow(new IllegalStateException("database down"));
+        StringBuilder csv = new StringBuilder("firstName,lastName,email\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append("First").append(i).append(",Last").append(i).append(",employee").append(i).append("@mail.com\n");
+        }
+
+        // when  - action or the behaviour that we are going test
+        EmployeeImportJob job = employeeCsvImporter.importEmployees(new StringReader(csv.toString()));
+
+        // then  - verify the output
+        assertThat(job.getState()).isEqualTo(EmployeeImportJob.State.FAILED);
+        assertThat(job.getMessage()).contains("database down");
+        assertThat(job.getRowsImported()).isZero();
+        assertThat(job.getRowsRead()).isLessThan(1000);
+    }
+
+    // JUnit test for a job named by the client, visible before the file is read and not reusable
+    @Test
+    @DisplayName("JUnit test for CSV import under a client job id, followed while the file is read, 409 on reuse")
+    public void givenClientJobId_whenImport_thenJobVisibleWhileReadingAndIdNotReusable() {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> save(invocation.getArgument(0)));
+        List<EmployeeImportJob.State> seenWhileReading = new ArrayList<>();
+        StringReader csv = new StringReader("email,firstName,lastName\nramesh@mail.com,Ramesh,Fadatare\n") {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                employeeCsvImporter.getJob("nightly-1").ifPresent(job -> seenWhileReading.add(job.getState()));
+                return super.read(buffer, offset, length);
+            }
+        };
+
+        // when  - action or the behaviour that we are going test
+        EmployeeImportJob job = employeeCsvImporter.importEmployees(employeeCsvImporter.newJob("nightly-1"), csv);
+
+        // then  - verify the output
+        assertThat(job.getId()).isEqualTo("nightly-1");
+        assertThat(job.getState()).isEqualTo(EmployeeImportJob.State.COMPLETED);
+        assertThat(seenWhileReading).isNotEmpty().allMatch(EmployeeImportJob.State.RUNNING::equals);
+        assertThatThrownBy(() -> employeeCsvImporter.newJob("nightly-1")).isInstanceOf(ConflictException.class);
+    }
+
+    // JUnit test for a running job outliving the finished ones past KEPT_JOBS
+    @Test
+    @DisplayName("JUnit test for CSV import keeps a running job while dropping the oldest finished ones")
+    public void givenRunningJob_whenManyJobsFinish_thenRunningJobKept() {
+        // given - precondition or setup
+        EmployeeImportJob running = employeeCsvImporter.newJob("running");
+
+        // when  - action or the behaviour that we are going test
+        for (int i = 0; i < EmployeeCsvImporter.KEPT_JOBS; i++) {
+            employeeCsvImporter.importEmployees(employeeCsvImporter.newJob("done-" + i),
+                    new StringReader("firstName,lastName,email\n"));
+        }
+
+        // then  - verify the output
+        assertThat(employeeCsvImporter.getJob("running")).containsSame(running);
+        assertThat(employeeCsvImporter.getJob("done-0")).isEmpty();
+        assertThat(employeeCsvImporter.getJob("done-1")).isPresent();
+        assertThat(employeeCsvImporter.getJobs()).hasSize(EmployeeCsvImporter.KEPT_JOBS);
+    }
+}
@@ -0,0 +1,201 @@
+package io.dowlath.employee.batch;
+
+import io.dowlath.employee.exception.ServiceUnavailableException;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 8:45 AM
+ ***/
+public class EmployeeWriteBehindQueueTests {
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(3);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        employeeWriteBehindQueue.close();
+    }
+
+    private EmployeeWriteBehindQueue start(int batchSize, Duration maxDelay, int queueCapacity) {
+        return start(batchSize, maxDelay, queueCapacity, Duration.ofSeconds(5));
+    }
+
+    private EmployeeWriteBehindQueue start(int batchSize, Duration maxDelay, int queueCapacity, Duration timeout) {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        employeeWriteBehindQueue = new EmployeeWriteBehindQueue(employeeRepository, transactionManager, meterRegistry,
+                true, batchSize, maxDelay, queueCapacity, timeout);
+        return employeeWriteBehindQueue;
+    }
+
+    private Employee employee(String key) {
+        return Employee.builder().firstName("First" + key).lastName("Last" + key).email(key + "@mail.com").build();
+    }
+
+    private List<Employee> assignIds(List<Employee> employees) {
+        employees.forEach(employee -> employee.setId(sequence.incrementAndGet()));
+        return employees;
+    }
+
+    // JUnit test for concurrent creates sharing one transaction
+    @Test
+    @DisplayName("JUnit test for write-behind queue commits concurrent creates in one batch")
+    public void givenConcurrentCreates_whenSave_thenOneTransactionForTheBatch() throws Exception {
+        // given - precondition or setup
+        start(3, Duration.ofSeconds(5), 10);
+        given(employeeRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // when  - action or the behaviour that we are going test
+        List<Future<Employee>> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Employee employee = employee("batch" + i);
+            saved.add(callers.submit(() -> employeeWriteBehindQueue.save(employee)));
+        }
+
+        // then  - verify the output
+        for (Future<Employee> future : saved) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getId()).isPositive();
+        }
+        verify(employeeRepository, times(1)).saveAllAndFlush(anyList());
+        verify(transactionManager, times(1)).commit(any());
+        DistributionSummary batchSizes = meterRegistry.get(EmployeeWriteBehindQueue.METRIC + ".batch.size").summary();
+        assertThat(batchSizes.count()).isEqualTo(1);
+        assertThat(batchSizes.totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get(EmployeeWriteBehindQueue.METRIC + ".queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    // JUnit test for a failing employee not failing the others of its batch
+    @Test
+    @DisplayName("JUnit test for write-behind queue retries a failed batch one employee at a time")
+    public void givenDuplicateInBatch_whenSave_thenOnlyThatCallerFails() throws Exception {
+        // given - precondition or setup
+        start(2, Duration.ofSeconds(5), 10);
+        Employee duplicate = employee("taken");
+        given(employeeRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("duplicate"));
+        given(employeeRepository.save(any(Employee.class))).willAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            if(employee == duplicate){
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            employee.setId(sequence.incrementAndGet());
+            return employee;
+        });
+
+        // when  - action or the behaviour that we are going test
+        Future<Employee> saved = callers.submit(() -> employeeWriteBehindQueue.save(employee("free")));
+        Future<Employee> failed = callers.submit(() -> employeeWriteBehindQueue.save(duplicate));
+
+        // then  - verify the output
+        assertThat(saved.get(5, TimeUnit.SECONDS).getId()).isPositive();
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    // JUnit test for backpressure once the queue is full
+    @Test
+    @DisplayName("JUnit test for write-behind queue rejects creates when the queue is full")
+    public void givenFullQueue_whenSave_thenThrowsServiceUnavailable() throws Exception {
+        // given - precondition or setup
+        start(1, Duration.ZERO, 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return assignIds(invocation.getArgument(0));
+        });
+        Future<Employee> inBatch = callers.submit(() -> employeeWriteBehindQueue.save(employee("first")));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Employee> queued = callers.submit(() -> employeeWriteBehindQueue.save(employee("second")));
+        while (meterRegistry.get(EmployeeWriteBehindQueue.METRIC + ".queue.size").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        // when  - action or the behaviour that we are going test
+        assertThatThrownBy(() -> employeeWriteBehindQueue.save(employee("third")))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        // then  - verify the output
+        release.countDown();
+        assertThat(inBatch.get(5, TimeUnit.SECONDS).getId()).isPositive();
+        assertThat(queued.get(5, TimeUnit.SECONDS).getId()).isPositive();
+        assertThat(meterRegistry.get(EmployeeWriteBehindQueue.METRIC + ".rejected").counter().count()).isEqualTo(1);
+    }
+
+    // JUnit test for a batch failing with an Error
+    @Test
+    @DisplayName("JUnit test for write-behind queue fails the batch on an Error and keeps writing")
+    public void givenErrorInBatch_whenSave_thenCallerFailsAndWriterSurvives() throws Exception {
+        // given - precondition or setup
+        start(1, Duration.ZERO, 10);
+        given(employeeRepository.saveAllAndFlush(anyList()))
+                .willThrow(new StackOverflowError())
+                .willAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // when  - action or the behaviour that we are going test
+        Future<Employee> failed = callers.submit(() -> employeeWriteBehindQueue.save(employee("error")));
+
+        // then  - verify the output
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(callers.submit(() -> employeeWriteBehindQueue.save(employee("next"))).get(5, TimeUnit.SECONDS)
+                .getId()).isPositive();
+    }
+
+    // JUnit test for a caller not waiting forever on its batch
+    @Test
+    @DisplayName("JUnit test for write-behind queue answers 503 when the commit takes longer than the timeout")
+    public void givenSlowBatch_whenSave_thenThrowsServiceUnavailableAfterTimeout() {
+        // given - precondition or setup
+        start(1, Duration.ZERO, 10, Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return assignIds(invocation.getArgument(0));
+        });
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThatThrownBy(() -> employeeWriteBehindQueue.save(employee("slow")))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+    }
+}
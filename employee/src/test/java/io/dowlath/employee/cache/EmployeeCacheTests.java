@@ -0,0 +1,185 @@
+package io.dowlath.employee.cache;
+
+import io.dowlath.employee.datasource.ReplicaRoutingDataSource;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:35 AM
+ ***/
+public class EmployeeCacheTests {
+
+    private EmployeeCache employeeCache;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employeeCache = new EmployeeCache(100, Duration.ofMinutes(10), Duration.ofSeconds(1));
+        employee = Employee.builder().id(1L).firstName("Dowlath")
+                .lastName("Basha G").email("dowlath@mail.com").build();
+    }
+
+    // JUnit test for hit and miss statistics
+    @Test
+    @DisplayName("JUnit test for cache records hits and misses by id")
+    public void givenLoadedEmployee_whenGetById_thenHitAndMissRecorded() {
+        // given - precondition or setup
+        AtomicInteger loads = new AtomicInteger();
+
+        // when  - action or the behaviour that we are going test
+        employeeCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(employee);
+        });
+        employeeCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(employee);
+        });
+
+        // then  - verify the output
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(employeeCache.getByIdStats().hitCount()).isEqualTo(1);
+        assertThat(employeeCache.getByIdStats().missCount()).isEqualTo(1);
+    }
+
+    // JUnit test for lookup by email served from the id cache
+    @Test
+    @DisplayName("JUnit test for cache lookup by email after put")
+    public void givenPutEmployee_whenGetByEmail_thenLoaderNotCalled() {
+        // given - precondition or setup
+        employeeCache.put(employee);
+
+        // when  - action or the behaviour that we are going test
+        Optional<Employee> cached = employeeCache.getByEmail("dowlath@mail.com", email -> Optional.empty());
+
+        // then  - verify the output
+        assertThat(cached).contains(employee);
+    }
+
+    // JUnit test for absent employees are not cached
+    @Test
+    @DisplayName("JUnit test for cache does not remember missing employees")
+    public void givenMissingEmployee_whenGetById_thenLoadedAgainNextTime() {
+        // given - precondition or setup
+        AtomicInteger loads = new AtomicInteger();
+
+        // when  - action or the behaviour that we are going test
+        employeeCache.getById(2L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<Employee> loaded = employeeCache.getById(2L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then  - verify the output
+        assertThat(loaded).isEmpty();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    // JUnit test for evict drops both id and email entries
+    @Test
+    @DisplayName("JUnit test for cache evict by id")
+    public void givenPutEmployee_whenEvict_thenLoadedAgain() {
+        // given - precondition or setup
+        employeeCache.put(employee);
+
+        // when  - action or the behaviour that we are going test
+        employeeCache.evict(1L);
+
+        // then  - verify the output
+        assertThat(employeeCache.getByEmail("dowlath@mail.com", email -> Optional.empty())).isEmpty();
+        assertThat(employeeCache.getById(1L, id -> Optional.empty())).isEmpty();
+    }
+
+    // JUnit test for committed deletes evicting, other events leaving the entry to the write that made them
+    @Test
+    @DisplayName("JUnit test for cache evicts on a committed delete event only")
+    public void givenPutEmployee_whenEmployeeEvents_thenEvictedOnDeleteOnly() {
+        // given - precondition or setup
+        employeeCache.put(employee);
+
+        // when  - action or the behaviour that we are going test
+        employeeCache.onEmployeeEvent(EmployeeEvent.saved(employee));
+        Optional<Long> afterSaved = employeeCache.getVersion(1L);
+        employeeCache.onEmployeeEvent(EmployeeEvent.deleted(1L));
+
+        // then  - verify the output
+        assertThat(afterSaved).isPresent();
+        assertThat(employeeCache.getVersion(1L)).isEmpty();
+        assertThat(employeeCache.getById(1L, id -> Optional.empty())).isEmpty();
+    }
+
+    // JUnit test for version lookups never loading
+    @Test
+    @DisplayName("JUnit test for cache version of cached and uncached employees")
+    public void givenPutEmployee_whenGetVersion_thenVersionWithoutLoad() {
+        // given - precondition or setup
+        employee.setVersion(3L);
+        employeeCache.put(employee);
+
+        // when  - action or the behaviour that we are going test
+        Optional<Long> cachedVersion = employeeCache.getVersion(1L);
+        Optional<Long> uncachedVersion = employeeCache.getVersion(2L);
+
+        // then  - verify the output
+        assertThat(cachedVersion).contains(3L);
+        assertThat(uncachedVersion).isEmpty();
+    }
+
+    // JUnit test for a reload right after a write not coming from a lagging replica
+    @Test
+    @DisplayName("JUnit test for cache loads a just evicted employee from the primary")
+    public void givenEvictedEmployee_whenGetById_thenLoadedFromPrimary() throws SQLException {
+        // given - precondition or setup
+        Connection primaryConnection = mock(Connection.class);
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica.getConnection()).willReturn(mock(Connection.class));
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary,
+                Collections.singletonList(replica), ReplicaRoutingDataSource.ReplicaSelection.ROUND_ROBIN);
+        List<Connection> connections = new ArrayList<>();
+        employeeCache.evict(1L);
+
+        // when  - action or the behaviour that we are going test
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            employeeCache.getById(1L, id -> {
+                try {
+                    connections.add(routingDataSource.getConnection());
+                } catch (SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return Optional.of(employee);
+            });
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // then  - verify the output
+        assertThat(connections).containsExactly(primaryConnection);
+    }
+}
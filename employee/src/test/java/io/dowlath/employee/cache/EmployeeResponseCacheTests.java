@@ -0,0 +1,78 @@
+package io.dowlath.employee.cache;
+
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 8:00 AM
+ ***/
+public class EmployeeResponseCacheTests {
+
+    private EmployeeResponseCache employeeResponseCache;
+
+    private final byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @BeforeEach
+    public void setup() {
+        employeeResponseCache = new EmployeeResponseCache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+    }
+
+    // JUnit test for bodies only answering for their own version
+    @Test
+    @DisplayName("JUnit test for response cache returns the body of the same version only")
+    public void givenCachedBody_whenGetOtherVersion_thenNull() {
+        // given - precondition or setup
+        employeeResponseCache.put(1L, 2L, body);
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThat(employeeResponseCache.get(1L, 2L)).isSameAs(body);
+        assertThat(employeeResponseCache.get(1L, 3L)).isNull();
+        assertThat(employeeResponseCache.get(2L, 2L)).isNull();
+    }
+
+    // JUnit test for invalidation on update and delete
+    @Test
+    @DisplayName("JUnit test for response cache evicts on saved, patched and deleted events")
+    public void givenCachedBodies_whenEmployeeEvents_thenEvicted() {
+        // given - precondition or setup
+        employeeResponseCache.put(1L, 0L, body);
+        employeeResponseCache.put(2L, 0L, body);
+        employeeResponseCache.put(3L, 0L, body);
+
+        // when  - action or the behaviour that we are going test
+        employeeResponseCache.onEmployeeEvent(EmployeeEvent.saved(Employee.builder().id(1L).version(1L).build()));
+        employeeResponseCache.onEmployeeEvent(EmployeeEvent.patched(2L, null, 1L));
+        employeeResponseCache.onEmployeeEvent(EmployeeEvent.deleted(3L));
+
+        // then  - verify the output
+        assertThat(employeeResponseCache.get(1L, 0L)).isNull();
+        assertThat(employeeResponseCache.get(2L, 0L)).isNull();
+        assertThat(employeeResponseCache.get(3L, 0L)).isNull();
+    }
+
+    // JUnit test for a size of zero turning the cache off
+    @Test
+    @DisplayName("JUnit test for response cache of size zero keeps nothing")
+    public void givenZeroSize_whenPut_thenNothingCached() {
+        // given - precondition or setup
+        EmployeeResponseCache disabled = new EmployeeResponseCache(DataSize.ofBytes(0), Duration.ofMinutes(10));
+
+        // when  - action or the behaviour that we are going test
+        disabled.put(1L, 0L, body);
+
+        // then  - verify the output
+        assertThat(disabled.get(1L, 0L)).isNull();
+    }
+}
@@ -0,0 +1,73 @@
+package io.dowlath.employee.config;
+
+import io.dowlath.employee.shard.EmailShardDirectory;
+import io.dowlath.employee.shard.ShardRoutingDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 7:05 PM
+ ***/
+public class ShardingConfigTests {
+
+    private final List<DataSource> shards = Arrays.asList(
+            new DriverManagerDataSource("jdbc:h2:mem:sharding_check0;DB_CLOSE_DELAY=-1", "sa", ""),
+            new DriverManagerDataSource("jdbc:h2:mem:sharding_check1;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    private final ShardRoutingDataSource shardRoutingDataSource = new ShardRoutingDataSource(shards);
+
+    private final EmailShardDirectory emailShardDirectory = new EmailShardDirectory(shards.get(0));
+
+    @BeforeEach
+    public void setup() {
+        for (DataSource shard : shards) {
+            Flyway.configure().dataSource(shard).locations("classpath:db/migration/h2").load().migrate();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shard);
+            jdbcTemplate.update("delete from employees");
+            jdbcTemplate.update("delete from employee_email_shards");
+        }
+    }
+
+    // JUnit test for starting sharding over employees it does not know of
+    @Test
+    @DisplayName("JUnit test for sharding refusing to start over employees written without it")
+    public void givenEmployeesWrittenWithoutSharding_whenCheck_thenFailsWithMessage() {
+        // given - precondition or setup
+        new JdbcTemplate(shards.get(0)).update("insert into employees (id, first_name, last_name, email, version)"
+                + " values (1, 'Ramesh', 'Fadatare', 'ramesh@gmail.com', 0)");
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThatThrownBy(() -> ShardingConfig.checkEveryEmployeeClaimed(shardRoutingDataSource, emailShardDirectory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("employee.sharding.enabled needs empty databases : 1 employees");
+    }
+
+    // JUnit test for employees written with sharding on
+    @Test
+    @DisplayName("JUnit test for sharding starting over employees whose emails are all claimed")
+    public void givenClaimedEmployees_whenCheck_thenStarts() {
+        // given - precondition or setup
+        new JdbcTemplate(shards.get(1)).update("insert into employees (id, first_name, last_name, email, version)"
+                + " values (1, 'Ramesh', 'Fadatare', 'ramesh@gmail.com', 0)");
+        emailShardDirectory.claim("ramesh@gmail.com", 1);
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThatCode(() -> ShardingConfig.checkEveryEmployeeClaimed(shardRoutingDataSource, emailShardDirectory))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,92 @@
+package io.dowlath.employee.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:30 PM
+ ***/
+// only one of the two runs on a given JDK : the wiring needs JDK 21+, the startup failure an older one
+public class ThreadingConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withPropertyValues("employee.threads.virtual=true")
+            .withUserConfiguration(ThreadingConfig.class, AsyncConfig.class);
+
+    @Configuration
+    @EnableAsync
+    static class AsyncConfig {
+
+        @Bean
+        public ThreadReporter threadReporter() {
+            return new ThreadReporter();
+        }
+    }
+
+    static class ThreadReporter {
+
+        @Async
+        public CompletableFuture<String> currentThread() {
+            return CompletableFuture.completedFuture(Thread.currentThread().toString());
+        }
+    }
+
+    // JUnit test for Tomcat and @Async on the virtual thread executor
+    @Test
+    @DisplayName("JUnit test for virtual thread executor wired into Tomcat and @Async")
+    public void givenVirtualThreads_whenContextStarts_thenTomcatAndAsyncUseThem() {
+        // given - precondition or setup
+        assumeTrue(ThreadingConfig.virtualThreadsAvailable(), "virtual threads need JDK 21+");
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        // when  - action or the behaviour that we are going test
+        contextRunner.run(context -> {
+            ExecutorService executor = context.getBean("virtualThreadExecutor", ExecutorService.class);
+            @SuppressWarnings("unchecked")
+            TomcatProtocolHandlerCustomizer<ProtocolHandler> customizer =
+                    context.getBean(TomcatProtocolHandlerCustomizer.class);
+            customizer.customize(protocolHandler);
+
+            // then  - verify the output
+            verify(protocolHandler).setExecutor(executor);
+            assertThat(context.getBean(ThreadReporter.class).currentThread().get()).startsWith("VirtualThread");
+            context.close();
+            assertThat(executor.isShutdown()).isTrue();
+        });
+    }
+
+    // JUnit test for a clear startup failure without virtual threads
+    @Test
+    @DisplayName("JUnit test for startup failing with a clear message when virtual threads are missing")
+    public void givenNoVirtualThreads_whenContextStarts_thenFailsWithMessage() {
+        // given - precondition or setup
+        assumeFalse(ThreadingConfig.virtualThreadsAvailable(), "virtual threads are available");
+
+        // when  - action or the behaviour that we are going test
+        contextRunner.run(context -> {
+
+            // then  - verify the output
+            assertThat(context).hasFailed();
+            assertThat(context.getStartupFailure()).hasRootCauseInstanceOf(NoSuchMethodException.class)
+                    .hasStackTraceContaining("employee.threads.virtual=true needs virtual threads (JDK 21+)");
+        });
+    }
+}
@@ -2,6 +2,17 @@ package io.dowlath.employee.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.dowlath.employee.batch.EmployeeCsvImporter;
+import io.dowlath.employee.cache.EmployeeResponseCache;
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.converter.EmployeeProtobufHttpMessageConverter;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.exception.PreconditionFailedException;
 import io.dowlath.employee.model.Employee;
 import io.dowlath.employee.service.EmployeeService;
 import org.hamcrest.CoreMatchers;
@@ -9,27 +20,34 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.*;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 
 
 /***
@@ -46,6 +64,12 @@ public class EmployeeControllerTests {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeResponseCache employeeResponseCache;
+
+    @MockBean
+    private EmployeeCsvImporter employeeCsvImporter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -78,16 +102,61 @@ public class EmployeeControllerTests {
                         CoreMatchers.is(employee.getEmail())));
     }
 
+    // JUnit test for create employee with an email already taken
+    @Test
+    @DisplayName("Junit Test case for Save Employee with a taken email")
+    public void givenTakenEmail_whenCreateEmployee_thenReturn409() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build();
+        given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willThrow(new ConflictException("Email already exist in the given email : dowlath@mail.com"));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
+    // JUnit test for bulk create employees
+    @Test
+    @DisplayName("Junit test case for bulk create employees with a rejected item")
+    public void givenEmployeesWithDuplicate_whenCreateEmployees_thenReturnMultiStatus() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        listOfEmployees.add(Employee.builder().firstName("Ariz").lastName("Dowlath").email("dowlath@mail.com").build());
+        List<BulkItemResult> results = new ArrayList<>();
+        results.add(BulkItemResult.builder().index(0).status(201).id(1L).build());
+        results.add(BulkItemResult.builder().index(1).status(409).message("Email already exist").build());
+        given(employeeService.saveEmployees(ArgumentMatchers.anyList())).willReturn(results);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/employees/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(listOfEmployees)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isMultiStatus())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status", CoreMatchers.is(409)));
+    }
+
     // JUnit test for GET all employees method
     @Test
     @DisplayName("Junit Test case for Get all employees")
     public void givenListOfEmployees_whenGetAllEmployees_thenReturnListOfEmployees() throws Exception {
         // given - precondition or setup
-        List<Employee> listOfEmployees = new ArrayList<>();
-        listOfEmployees.add(Employee.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
-        listOfEmployees.add(Employee.builder().firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build());
-        listOfEmployees.add(Employee.builder().firstName("Arsh").lastName("Dowlath").email("arsh@mail.com").build());
-        given(employeeService.getAllEmployees()).willReturn(listOfEmployees);
+        List<EmployeeDto> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(EmployeeDto.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        listOfEmployees.add(EmployeeDto.builder().firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build());
+        listOfEmployees.add(EmployeeDto.builder().firstName("Arsh").lastName("Dowlath").email("arsh@mail.com").build());
+        given(employeeService.getEmployeesAfter(0L, EmployeeController.DEFAULT_PAGE_SIZE + 1)).willReturn(listOfEmployees);
 
         // when  - action or the behaviour that we are going test
         ResultActions response = mockMvc.perform(get("/api/employees"));
@@ -96,7 +165,198 @@ public class EmployeeControllerTests {
         response.andExpect(MockMvcResultMatchers.status().isOk())
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.size()",
-                        CoreMatchers.is(listOfEmployees.size())));
+                        CoreMatchers.is(listOfEmployees.size())))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("Link"));
+    }
+
+    // JUnit test for GET employees page with a next cursor
+    @Test
+    @DisplayName("Junit test case for Get employees page with next cursor")
+    public void givenMoreEmployeesThanLimit_whenGetAllEmployees_thenReturnPageAndNextLink() throws Exception {
+        // given - precondition or setup
+        List<EmployeeDto> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(EmployeeDto.builder().id(11L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        listOfEmployees.add(EmployeeDto.builder().id(12L).firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build());
+        listOfEmployees.add(EmployeeDto.builder().id(13L).firstName("Arsh").lastName("Dowlath").email("arsh@mail.com").build());
+        given(employeeService.getEmployeesAfter(10L, 3)).willReturn(listOfEmployees);
+        given(employeeService.getApproximateEmployeeCount()).willReturn(42L);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("after", "10")
+                .param("limit", "2")
+                .param("includeTotal", "true"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.header().string("X-Next-Cursor", "12"))
+                .andExpect(MockMvcResultMatchers.header().string("Link",
+                        CoreMatchers.containsString("after=12")))
+                .andExpect(MockMvcResultMatchers.header().string("X-Total-Count", "42"));
+    }
+
+    // JUnit test for GET employees page size is capped
+    @Test
+    @DisplayName("Junit test case for Get employees limit above maximum page size")
+    public void givenLimitAboveMaximum_whenGetAllEmployees_thenPageSizeIsCapped() throws Exception {
+        // given - precondition or setup
+        given(employeeService.getEmployeesAfter(0L, EmployeeController.MAX_PAGE_SIZE + 1)).willReturn(new ArrayList<>());
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees").param("limit", "1000000"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(0)));
+    }
+
+    // JUnit test for GET employees page answered from the collection version
+    @Test
+    @DisplayName("Junit test case for Get employees page - If-None-Match of the collection version")
+    public void givenCurrentCollectionETag_whenGetAllEmployees_thenReturnNotModifiedWithoutRead() throws Exception {
+        // given - precondition or setup
+        given(employeeService.getEmployeesVersion()).willReturn("abc-7");
+
+        // when  - action or the behaviour that we are going test
+        ResultActions current = mockMvc.perform(get("/api/employees").header("If-None-Match", "\"abc-7\""));
+        ResultActions outdated = mockMvc.perform(get("/api/employees").header("If-None-Match", "\"abc-6\""));
+
+        // then  - verify the output
+        current.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "W/\"abc-7\""));
+        outdated.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "W/\"abc-7\""));
+        verify(employeeService, times(1)).getEmployeesAfter(0L, EmployeeController.DEFAULT_PAGE_SIZE + 1);
+    }
+
+    // JUnit test for GET employees page in the binary formats
+    @Test
+    @DisplayName("Junit test case for Get employees page as CBOR, Smile and Protobuf")
+    public void givenBinaryAccept_whenGetAllEmployees_thenReturnPageInThatFormat() throws Exception {
+        // given - precondition or setup
+        List<EmployeeDto> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(EmployeeDto.builder().id(1L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        listOfEmployees.add(EmployeeDto.builder().id(2L).firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build());
+        given(employeeService.getEmployeesAfter(0L, EmployeeController.DEFAULT_PAGE_SIZE + 1)).willReturn(listOfEmployees);
+
+        // when  - action or the behaviour that we are going test
+        byte[] cbor = mockMvc.perform(get("/api/employees").accept("application/cbor"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/api/employees").accept("application/x-jackson-smile"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] protobuf = mockMvc.perform(get("/api/employees").accept(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then  - verify the output
+        assertThat(new CBORMapper().readValue(cbor, EmployeeDto[].class)).containsExactlyElementsOf(listOfEmployees);
+        assertThat(new SmileMapper().readValue(smile, EmployeeDto[].class)).containsExactlyElementsOf(listOfEmployees);
+        assertThat(protobuf.length).isLessThan(objectMapper.writeValueAsBytes(listOfEmployees).length);
+    }
+
+    // JUnit test for POST employee with a Protobuf body and response
+    @Test
+    @DisplayName("Junit test case for Save Employee as Protobuf")
+    public void givenProtobufEmployee_whenCreateEmployee_thenReturnProtobufEmployee() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build();
+        given(employeeService.saveEmployee(employee)).willReturn(employee.toBuilder().id(1L).build());
+        EmployeeProtobufHttpMessageConverter converter = new EmployeeProtobufHttpMessageConverter();
+        MockHttpOutputMessage body = new MockHttpOutputMessage();
+        converter.write(employee, Employee.class, EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF, body);
+
+        // when  - action or the behaviour that we are going test
+        byte[] response = mockMvc.perform(post("/api/employees")
+                        .contentType(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .content(body.getBodyAsBytes()))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then  - verify the output
+        Object savedEmployee = converter.read(Employee.class, null, new MockHttpInputMessage(response));
+        assertThat(savedEmployee).isEqualTo(employee.toBuilder().id(1L).build());
+    }
+
+    // JUnit test for GET employees suggestions
+    @Test
+    @DisplayName("Junit test case for suggest employees by name prefix")
+    public void givenQuery_whenSuggestEmployees_thenReturnMatches() throws Exception {
+        // given - precondition or setup
+        List<EmployeeDto> suggestions = new ArrayList<>();
+        suggestions.add(EmployeeDto.builder().id(1L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        given(employeeService.suggestEmployees("dow", EmployeeController.MAX_SUGGEST_SIZE)).willReturn(suggestions);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/suggest")
+                .param("q", "dow")
+                .param("limit", "100000"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName", CoreMatchers.is("Dowlath")));
+    }
+
+    // JUnit test for GET employees full-text search
+    @Test
+    @DisplayName("Junit test case for search employees returns a ranked page with total and next link")
+    public void givenQuery_whenSearchEmployees_thenReturnPageWithTotal() throws Exception {
+        // given - precondition or setup
+        List<EmployeeDto> employees = new ArrayList<>();
+        employees.add(EmployeeDto.builder().id(1L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        employees.add(EmployeeDto.builder().id(2L).firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build());
+        given(employeeService.searchEmployees("dowlat", 0, 2))
+                .willReturn(EmployeeSearchResult.builder().total(3).employees(employees).build());
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/search")
+                .param("q", "dowlat")
+                .param("size", "2"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.header().string("X-Total-Count", "3"))
+                .andExpect(MockMvcResultMatchers.header().string("Link", CoreMatchers.containsString("page=1")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName", CoreMatchers.is("Dowlath")));
+    }
+
+    // JUnit test for GET employees export as newline delimited JSON
+    @Test
+    @DisplayName("Junit test case for export employees as NDJSON")
+    public void givenEmployees_whenExportEmployees_thenReturnOneJsonObjectPerLine() throws Exception {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().id(1L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build();
+        Employee employee2 = Employee.builder().id(2L).firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build();
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(employee1);
+            consumer.accept(employee2);
+            return null;
+        }).given(employeeService).exportEmployees(ArgumentMatchers.any());
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/export"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(
+                        objectMapper.writeValueAsString(employee1) + "\n"
+                                + objectMapper.writeValueAsString(employee2) + "\n"));
     }
 
     // Positive scenario - valid employee id
@@ -123,6 +383,120 @@ public class EmployeeControllerTests {
 
     }
 
+    // JUnit test for GET employee by id answered from the cached version
+    @Test
+    @DisplayName("Junit test case for GET employee by id - If-None-Match of the cached version")
+    public void givenCurrentETag_whenGetEmployeeId_thenReturnNotModifiedWithoutRead() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        given(employeeService.getCachedEmployeeVersion(employeeId)).willReturn(Optional.of(2L));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("If-None-Match", "\"1\", \"2\""));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"2\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        verify(employeeService, never()).getEmployeeById(employeeId);
+    }
+
+    // JUnit test for GET employee by id with an outdated or unknown tag
+    @Test
+    @DisplayName("Junit test case for GET employee by id - ETag of the version read")
+    public void givenOutdatedETag_whenGetEmployeeId_thenReturnEmployeeWithETag() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        Employee employee = Employee.builder().id(employeeId).firstName("Dowlath")
+                .lastName("Basha")
+                .email("dowlath@mail.com").version(2L).build();
+        given(employeeService.getCachedEmployeeVersion(employeeId)).willReturn(Optional.empty());
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions outdated = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("If-None-Match", "\"1\""));
+        ResultActions current = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("If-None-Match", "W/\"2\""));
+
+        // then  - verify the output
+        outdated.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"2\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is("Dowlath")));
+        current.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"2\""));
+    }
+
+    // JUnit test for GET employee by id written from the pre-serialized body
+    @Test
+    @DisplayName("Junit test case for GET employee by id - cached JSON body of the current version")
+    public void givenCachedBody_whenGetEmployeeId_thenWriteBodyWithoutRead() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        byte[] body = "{\"id\":1,\"firstName\":\"Dowlath\",\"version\":2}".getBytes(StandardCharsets.UTF_8);
+        given(employeeService.getCachedEmployeeVersion(employeeId)).willReturn(Optional.of(2L));
+        given(employeeResponseCache.get(employeeId, 2L)).willReturn(body);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"2\""))
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content().bytes(body));
+        verify(employeeService, never()).getEmployeeById(employeeId);
+    }
+
+    // JUnit test for GET employee by id filling the pre-serialized body cache
+    @Test
+    @DisplayName("Junit test case for GET employee by id - JSON body cached for its version")
+    public void givenUncachedBody_whenGetEmployeeId_thenBodyCachedForVersion() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        Employee employee = Employee.builder().id(employeeId).firstName("Dowlath")
+                .lastName("Basha")
+                .email("dowlath@mail.com").version(2L).build();
+        given(employeeService.getCachedEmployeeVersion(employeeId)).willReturn(Optional.of(2L));
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId));
+
+        // then  - verify the output
+        byte[] body = response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is("Dowlath")))
+                .andReturn().getResponse().getContentAsByteArray();
+        verify(employeeResponseCache).put(employeeId, 2L, body);
+    }
+
+    // JUnit test for GET employee by id in another format than JSON
+    @Test
+    @DisplayName("Junit test case for GET employee by id - Protobuf bypasses the JSON body cache")
+    public void givenProtobufAccept_whenGetEmployeeId_thenBodyCacheNotUsed() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        Employee employee = Employee.builder().id(employeeId).firstName("Dowlath")
+                .lastName("Basha")
+                .email("dowlath@mail.com").version(2L).build();
+        given(employeeService.getCachedEmployeeVersion(employeeId)).willReturn(Optional.of(2L));
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .accept(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        verifyNoInteractions(employeeResponseCache);
+    }
+
     // Negative scenario - valid employee id
     // JUnit test for GET employee by id REST API
     @Test
@@ -190,13 +564,115 @@ public class EmployeeControllerTests {
                 .andDo(MockMvcResultHandlers.print());
     }
 
+    // JUnit test for UPDATE employee rest api - email taken by another employee
+    @Test
+    @DisplayName("Junit test case for UPDATE employee - Taken email")
+    public void givenTakenEmail_whenUpdateEmployee_thenReturn409() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        Employee savedEmployee = Employee.builder().firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build();
+        Employee updatedEmployee = Employee.builder().firstName("Ariz").lastName("Dowlath").email("arsh@mail.com").build();
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
+        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class)))
+                .willThrow(new ConflictException("Email already exist in the given email : arsh@mail.com"));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
+    // JUnit test for PATCH employee rest api - positive scenario
+    @Test
+    @DisplayName("Junit test case for PATCH employee - Positive Scenario")
+    public void givenPatchAndCurrentVersion_whenPatchEmployee_thenReturn204WithNewETag() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        EmployeePatch patch = EmployeePatch.builder().email("arsh@mail.com").build();
+        given(employeeService.patchEmployee(employeeId, patch, 3L)).willReturn(Optional.of(4L));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isNoContent())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"4\""));
+    }
+
+    // JUnit test for PATCH employee rest api - stale version
+    @Test
+    @DisplayName("Junit test case for PATCH employee - Stale version")
+    public void givenStaleVersion_whenPatchEmployee_thenReturn412() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        EmployeePatch patch = EmployeePatch.builder().email("arsh@mail.com").build();
+        given(employeeService.patchEmployee(employeeId, patch, 2L))
+                .willThrow(new PreconditionFailedException("Employee 1 is no longer at version 2"));
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
+    // JUnit test for PATCH employee rest api - missing If-Match
+    @Test
+    @DisplayName("Junit test case for PATCH employee - Without If-Match")
+    public void givenNoIfMatch_whenPatchEmployee_thenReturn428() throws Exception {
+        // given - precondition or setup
+        EmployeePatch patch = EmployeePatch.builder().email("arsh@mail.com").build();
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isPreconditionRequired())
+                .andDo(MockMvcResultHandlers.print());
+        verify(employeeService, never()).patchEmployee(anyLong(), any(EmployeePatch.class), anyLong());
+    }
+
+    // JUnit test for PATCH employee rest api - negative scenario
+    @Test
+    @DisplayName("Junit test case for PATCH employee - Negative Scenario")
+    public void givenUnknownEmployee_whenPatchEmployee_thenReturn404() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        EmployeePatch patch = EmployeePatch.builder().lastName("Dowlath").build();
+        given(employeeService.patchEmployee(employeeId, patch, 0L)).willReturn(Optional.empty());
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
     // JUnit test for DELETE employee REST API
     @Test
     @DisplayName("Junit test case for DELETE employee")
     public void givenEmployeeId_whenDeleteEmployee_thenReturn200() throws Exception {
         // given - precondition or setup
         long employeeId = 1L;
-        willDoNothing().given(employeeService).deleteEmployee(employeeId);
+        given(employeeService.deleteEmployee(employeeId)).willReturn(true);
 
         // when  - action or the behaviour that we are going test
         ResultActions response = mockMvc.perform(delete("/api/employees/{id}",employeeId));
@@ -206,5 +682,37 @@ public class EmployeeControllerTests {
                 .andDo(MockMvcResultHandlers.print());
     }
 
+    // JUnit test for DELETE employee REST API - negative scenario
+    @Test
+    @DisplayName("Junit test case for DELETE employee - Negative Scenario")
+    public void givenUnknownEmployeeId_whenDeleteEmployee_thenReturn404() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        given(employeeService.deleteEmployee(employeeId)).willReturn(false);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(delete("/api/employees/{id}",employeeId));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
+    // JUnit test for bulk DELETE employees REST API
+    @Test
+    @DisplayName("Junit test case for bulk DELETE employees")
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() throws Exception {
+        // given - precondition or setup
+        given(employeeService.deleteEmployees(Arrays.asList(1L, 2L, 3L))).willReturn(2);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(delete("/api/employees").param("ids", "1,2,3"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.content().string("2 employees deleted successfully"));
+    }
+
 
 }
@@ -0,0 +1,127 @@
+package io.dowlath.employee.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 7:05 AM
+ ***/
+public class EmployeeProtobufHttpMessageConverterTests {
+
+    private static final Type EMPLOYEE_LIST = new ParameterizedTypeReference<List<Employee>>() {
+    }.getType();
+
+    private static final Type EMPLOYEE_DTO_LIST = new ParameterizedTypeReference<List<EmployeeDto>>() {
+    }.getType();
+
+    private final EmployeeProtobufHttpMessageConverter converter = new EmployeeProtobufHttpMessageConverter();
+
+    private byte[] write(Object value, Type type) throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(value, type, EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    private Object read(byte[] body, Type type) throws IOException {
+        return converter.read(type, null, new MockHttpInputMessage(body));
+    }
+
+    // JUnit test for a single employee round trip
+    @Test
+    @DisplayName("JUnit test for protobuf write then read of one employee")
+    public void givenEmployee_whenWriteAndRead_thenSameEmployee() throws IOException {
+        // given - precondition or setup
+        Employee employee = Employee.builder().id(1L).firstName("Dowlath").lastName("Basha")
+                .email("dowlath@mail.com").version(3L).build();
+
+        // when  - action or the behaviour that we are going test
+        Object read = read(write(employee, Employee.class), Employee.class);
+
+        // then  - verify the output
+        assertThat(read).isEqualTo(employee);
+    }
+
+    // JUnit test for lists of DTOs read back as employees, missing fields left null
+    @Test
+    @DisplayName("JUnit test for protobuf write then read of an employee list")
+    public void givenEmployeeDtoList_whenWriteAndRead_thenSameEmployees() throws IOException {
+        // given - precondition or setup
+        List<EmployeeDto> employees = Arrays.asList(
+                EmployeeDto.builder().id(1L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build(),
+                EmployeeDto.builder().id(2L).firstName("Ariz").version(1L).build());
+
+        // when  - action or the behaviour that we are going test
+        @SuppressWarnings("unchecked")
+        List<Employee> read = (List<Employee>) read(write(employees, EMPLOYEE_DTO_LIST), EMPLOYEE_LIST);
+
+        // then  - verify the output
+        assertThat(read).containsExactly(
+                Employee.builder().id(1L).firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build(),
+                Employee.builder().id(2L).firstName("Ariz").version(1L).build());
+    }
+
+    // JUnit test for forward compatibility with fields added to the schema later
+    @Test
+    @DisplayName("JUnit test for protobuf read skips unknown fields")
+    public void givenUnknownField_whenRead_thenFieldSkipped() throws IOException {
+        // given - precondition or setup
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(body);
+        output.writeInt64(EmployeeProtobufHttpMessageConverter.ID, 7L);
+        output.writeString(42, "department");
+        output.writeString(EmployeeProtobufHttpMessageConverter.EMAIL, "dowlath@mail.com");
+        output.flush();
+
+        // when  - action or the behaviour that we are going test
+        Employee read = (Employee) read(body.toByteArray(), Employee.class);
+
+        // then  - verify the output
+        assertThat(read.getId()).isEqualTo(7L);
+        assertThat(read.getEmail()).isEqualTo("dowlath@mail.com");
+    }
+
+    // JUnit test for malformed bodies
+    @Test
+    @DisplayName("JUnit test for protobuf read of a truncated body throws exception")
+    public void givenTruncatedBody_whenRead_thenThrowsNotReadable() {
+        // given - precondition or setup
+        byte[] body = {(byte) WireFormat.WIRETYPE_LENGTH_DELIMITED | EmployeeProtobufHttpMessageConverter.FIRST_NAME << 3, 10, 'D'};
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThatThrownBy(() -> read(body, Employee.class)).isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    // JUnit test for types the schema does not cover
+    @Test
+    @DisplayName("JUnit test for protobuf converter only handles employees")
+    public void givenOtherTypes_whenCanReadOrWrite_thenFalse() {
+        // given - precondition or setup
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThat(converter.canWrite(EMPLOYEE_DTO_LIST, List.class, EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(String.class, String.class, EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.canRead(EMPLOYEE_DTO_LIST, null, EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.canRead(Employee.class, null, MediaType.APPLICATION_JSON)).isFalse();
+    }
+}
@@ -0,0 +1,119 @@
+package io.dowlath.employee.datasource;
+
+import io.dowlath.employee.event.EmployeeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 6:25 PM
+ ***/
+public class ReadYourWritesFilterTests {
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final ReadYourWritesFilter readYourWritesFilter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    // connections handed out during the request, in order
+    private final List<Connection> connections = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                Collections.singletonList(dataSource(replicaConnection)),
+                ReplicaRoutingDataSource.ReplicaSelection.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        return dataSource;
+    }
+
+    private MockHttpServletResponse request(MockHttpServletRequest request, boolean write) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readYourWritesFilter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    connections.add(routingDataSource.getConnection());
+                    if(write){
+                        readYourWritesFilter.onEmployeeEvent(EmployeeEvent.deleted(1L));
+                        connections.add(routingDataSource.getConnection());
+                    }
+                } catch (SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        return response;
+    }
+
+    // JUnit test for the writer reading its own writes from the primary
+    @Test
+    @DisplayName("JUnit test for read-your-writes keeps the writing client on the primary, others on the replicas")
+    public void givenWriteInRequest_whenSameAndOtherClientRead_thenOnlyWriterReadsPrimary() throws Exception {
+        // given - precondition or setup
+        MockHttpServletResponse writeResponse = request(new MockHttpServletRequest(), true);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+
+        // when  - action or the behaviour that we are going test
+        MockHttpServletRequest writerRead = new MockHttpServletRequest();
+        writerRead.setCookies(cookie);
+        request(writerRead, false);
+        request(new MockHttpServletRequest(), false);
+
+        // then  - verify the output
+        assertThat(cookie).isNotNull();
+        assertThat(connections).containsExactly(replicaConnection, primaryConnection, primaryConnection,
+                replicaConnection);
+        assertThat(ReplicaRoutingDataSource.getReadPrimary()).isNull();
+    }
+
+    // JUnit test for an expired marker
+    @Test
+    @DisplayName("JUnit test for read-your-writes sends a client back to the replicas once its window is over")
+    public void givenExpiredCookie_whenRead_thenReplica() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, String.valueOf(System.currentTimeMillis() - 1)));
+
+        // when  - action or the behaviour that we are going test
+        request(request, false);
+
+        // then  - verify the output
+        assertThat(connections).containsExactly(replicaConnection);
+    }
+}
@@ -0,0 +1,97 @@
+package io.dowlath.employee.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 9:50 AM
+ ***/
+public class ReplicaRoutingDataSourceTests {
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection firstReplicaConnection = mock(Connection.class);
+
+    private final Connection secondReplicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routingDataSource() throws SQLException {
+        return new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                Arrays.asList(dataSource(firstReplicaConnection), dataSource(secondReplicaConnection)),
+                ReplicaRoutingDataSource.ReplicaSelection.ROUND_ROBIN);
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        return dataSource;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    // JUnit test for writes and non read-only work staying on the primary
+    @Test
+    @DisplayName("JUnit test for routing data source sends read-write transactions to the primary")
+    public void givenReadWriteTransaction_whenGetConnection_thenPrimary() throws SQLException {
+        // given - precondition or setup
+        ReplicaRoutingDataSource routingDataSource = routingDataSource();
+
+        // when  - action or the behaviour that we are going test
+        Connection connection = routingDataSource.getConnection();
+
+        // then  - verify the output
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    // JUnit test for read-only transactions spread over the replicas
+    @Test
+    @DisplayName("JUnit test for routing data source sends read-only transactions to the replicas in turn")
+    public void givenReadOnlyTransactions_whenGetConnection_thenReplicasRoundRobin() throws SQLException {
+        // given - precondition or setup
+        ReplicaRoutingDataSource routingDataSource = routingDataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThat(routingDataSource.getConnection()).isSameAs(firstReplicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(firstReplicaConnection);
+    }
+
+    // JUnit test for reads that have to see earlier writes going to the primary
+    @Test
+    @DisplayName("JUnit test for routing data source sends read-only transactions marked reading primary to the primary")
+    public void givenReadingPrimary_whenReadOnlyGetConnection_thenPrimary() throws SQLException {
+        // given - precondition or setup
+        ReplicaRoutingDataSource routingDataSource = routingDataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when  - action or the behaviour that we are going test
+        Connection connection = ReplicaRoutingDataSource.readingPrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // then  - verify the output
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(firstReplicaConnection);
+    }
+}
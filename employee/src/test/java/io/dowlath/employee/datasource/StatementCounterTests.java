@@ -0,0 +1,49 @@
+package io.dowlath.employee.datasource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:30 PM
+ ***/
+public class StatementCounterTests {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(ProxyDataSourceBuilder
+            .create(new DriverManagerDataSource("jdbc:h2:mem:statements;DB_CLOSE_DELAY=-1", "sa", ""))
+            .listener(statementCounter)
+            .build());
+
+    @Test
+    @DisplayName("JUnit test for statements counted in every open recording, a batch as one, repeats reported")
+    public void givenNestedRecordings_whenExecute_thenCountedInEachAndRepeatsReported() {
+        // given - precondition or setup
+        jdbcTemplate.execute("create table if not exists items (id int primary key)");
+        jdbcTemplate.update("delete from items");
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements outer = statementCounter.start();
+        jdbcTemplate.batchUpdate("insert into items (id) values (?)", Arrays.asList(new Object[]{1}, new Object[]{2}));
+        try (StatementCounter.Statements inner = statementCounter.start()) {
+            jdbcTemplate.queryForObject("select count(*) from items where id = ?", Integer.class, 1);
+            jdbcTemplate.queryForObject("select count(*) from items where id = ?", Integer.class, 2);
+            outer.close();
+
+            // then  - verify the output
+            assertThat(inner.getCount()).isEqualTo(2);
+            assertThat(inner.getRepeated()).containsEntry("select count(*) from items where id = ?", 2);
+        }
+        jdbcTemplate.queryForObject("select count(*) from items", Integer.class);
+        assertThat(outer.getCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,76 @@
+package io.dowlath.employee.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:10 AM
+ ***/
+public class EmailBloomFilterTests {
+
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    public void setup() {
+        emailBloomFilter = new EmailBloomFilter(10000, 0.01);
+    }
+
+    // JUnit test for added emails are always reported
+    @Test
+    @DisplayName("JUnit test for bloom filter never misses an added email")
+    public void givenAddedEmails_whenMightContain_thenReturnTrue() {
+        // given - precondition or setup
+        for (int i = 0; i < 10000; i++) {
+            emailBloomFilter.put("employee" + i + "@mail.com");
+        }
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        for (int i = 0; i < 10000; i++) {
+            assertThat(emailBloomFilter.mightContain("employee" + i + "@mail.com")).isTrue();
+        }
+        assertThat(emailBloomFilter.mightContain("EMPLOYEE1@MAIL.COM")).isTrue();
+    }
+
+    // JUnit test for false positive rate stays near the configured one
+    @Test
+    @DisplayName("JUnit test for bloom filter false positive rate")
+    public void givenFullFilter_whenMightContainUnknownEmails_thenFalsePositiveRateIsLow() {
+        // given - precondition or setup
+        for (int i = 0; i < 10000; i++) {
+            emailBloomFilter.put("employee" + i + "@mail.com");
+        }
+
+        // when  - action or the behaviour that we are going test
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if(emailBloomFilter.mightContain("unknown" + i + "@mail.com")){
+                falsePositives++;
+            }
+        }
+
+        // then  - verify the output
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    // JUnit test for rebuild drops emails no longer stored
+    @Test
+    @DisplayName("JUnit test for bloom filter rebuild")
+    public void givenStaleEmail_whenRebuild_thenOnlyLoadedEmailsRemain() {
+        // given - precondition or setup
+        emailBloomFilter.put("deleted@mail.com");
+        emailBloomFilter.markStale();
+
+        // when  - action or the behaviour that we are going test
+        emailBloomFilter.rebuild(emails -> emails.accept("kept@mail.com"));
+
+        // then  - verify the output
+        assertThat(emailBloomFilter.mightContain("kept@mail.com")).isTrue();
+        assertThat(emailBloomFilter.mightContain("deleted@mail.com")).isFalse();
+    }
+}
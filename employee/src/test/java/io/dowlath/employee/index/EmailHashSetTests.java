@@ -0,0 +1,39 @@
+package io.dowlath.employee.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:45 PM
+ ***/
+public class EmailHashSetTests {
+
+    // JUnit test for repeated emails found again after the table grew
+    @Test
+    @DisplayName("JUnit test for email hash set reports repeats, in any case, past its expected size")
+    public void givenMoreEmailsThanExpected_whenAdd_thenRepeatsRejected() {
+        // given - precondition or setup
+        EmailHashSet emails = new EmailHashSet(16);
+
+        // when  - action or the behaviour that we are going test
+        int added = 0;
+        for (int i = 0; i < 10000; i++) {
+            if(emails.add("employee" + i + "@mail.com")){
+                added++;
+            }
+        }
+
+        // then  - verify the output
+        assertThat(added).isEqualTo(10000);
+        assertThat(emails.size()).isEqualTo(10000);
+        for (int i = 0; i < 10000; i++) {
+            assertThat(emails.add("employee" + i + "@mail.com")).isFalse();
+        }
+        assertThat(emails.add("EMPLOYEE1@MAIL.COM")).isFalse();
+        assertThat(emails.size()).isEqualTo(10000);
+    }
+}
@@ -0,0 +1,225 @@
+package io.dowlath.employee.index;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:55 AM
+ ***/
+public class EmployeeSearchIndexTests {
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @BeforeEach
+    public void setup() {
+        employeeSearchIndex = new EmployeeSearchIndex("", Duration.ofSeconds(1));
+        employeeSearchIndex.rebuild(consumer -> {
+            consumer.accept(employee(1L, "Dowlath", "Basha", "dowlath@mail.com"));
+            consumer.accept(employee(2L, "Ariz", "Dowlath", "ariz@mail.com"));
+            consumer.accept(employee(3L, "Arsh", "Dowlath", "arsh@mail.com"));
+            consumer.accept(employee(4L, "Dowlathkhan", "Khan", "khan@mail.com"));
+            consumer.accept(employee(5L, "Ramesh", "Kumar", "ramesh.kumar@mail.com"));
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        employeeSearchIndex.close();
+    }
+
+    private static Employee employee(long id, String firstName, String lastName, String email) {
+        return Employee.builder().id(id).firstName(firstName).lastName(lastName).email(email).version(0L).build();
+    }
+
+    private List<Long> searchIds(String query) {
+        List<Long> ids = new ArrayList<>();
+        for (EmployeeDto employee : employeeSearchIndex.search(query, 0, 10).getEmployees()) {
+            ids.add(employee.getId());
+        }
+        return ids;
+    }
+
+    // JUnit test for exact, prefix and fuzzy matches ranked in that order
+    @Test
+    @DisplayName("JUnit test for search ranks exact matches above prefix and typo matches")
+    public void givenIndexedEmployees_whenSearch_thenExactBeforePrefixBeforeTypo() {
+        // given - precondition or setup
+        // when  - action or the behaviour that we are going test
+        List<Long> ids = searchIds("dowlath");
+
+        // then  - verify the output
+        assertThat(ids).hasSize(4);
+        assertThat(ids.subList(0, 3)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids.get(3)).isEqualTo(4L);
+        assertThat(searchIds("dowlat")).startsWith(1L).contains(4L);
+        assertThat(searchIds("Ramsh")).containsExactly(5L);
+        assertThat(searchIds("kumar")).containsExactly(5L);
+        assertThat(searchIds("zed")).isEmpty();
+        assertThat(searchIds(" ")).isEmpty();
+    }
+
+    // JUnit test for every token having to match
+    @Test
+    @DisplayName("JUnit test for search with several words matches employees having all of them")
+    public void givenSeveralWords_whenSearch_thenReturnEmployeesMatchingAll() {
+        // given - precondition or setup
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThat(searchIds("ariz dowlath")).containsExactly(2L);
+        assertThat(searchIds("dowlath basha")).containsExactly(1L);
+        assertThat(searchIds("ramesh.kumar@mail.com")).containsExactly(5L);
+    }
+
+    // JUnit test for offset paging over the ranked hits
+    @Test
+    @DisplayName("JUnit test for search pages through the hits and reports the total")
+    public void givenManyMatches_whenSearchPages_thenReturnDisjointPagesAndTotal() {
+        // given - precondition or setup
+        // when  - action or the behaviour that we are going test
+        EmployeeSearchResult first = employeeSearchIndex.search("mail", 0, 2);
+        EmployeeSearchResult second = employeeSearchIndex.search("mail", 1, 2);
+        EmployeeSearchResult last = employeeSearchIndex.search("mail", 2, 2);
+
+        // then  - verify the output
+        assertThat(first.getTotal()).isEqualTo(5);
+        assertThat(first.getEmployees()).hasSize(2);
+        assertThat(second.getEmployees()).hasSize(2);
+        assertThat(last.getEmployees()).hasSize(1);
+        List<Long> ids = new ArrayList<>();
+        for (EmployeeSearchResult page : new EmployeeSearchResult[]{first, second, last}) {
+            for (EmployeeDto employee : page.getEmployees()) {
+                ids.add(employee.getId());
+            }
+        }
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    // JUnit test for a page past the hits kept
+    @Test
+    @DisplayName("JUnit test for search past the maximum hits returns no employees but the real total")
+    public void givenPageBeyondMaxHits_whenSearch_thenReturnEmptyPageWithTotal() {
+        // given - precondition or setup
+        int page = EmployeeSearchIndex.MAX_HITS / 10;
+
+        // when  - action or the behaviour that we are going test
+        EmployeeSearchResult result = employeeSearchIndex.search("mail", page, 10);
+
+        // then  - verify the output
+        assertThat(result.getEmployees()).isEmpty();
+        assertThat(result.getTotal()).isEqualTo(5);
+    }
+
+    // JUnit test for incremental maintenance through events
+    @Test
+    @DisplayName("JUnit test for search index follows saved, patched and deleted events")
+    public void givenEmployeeEvents_whenSearch_thenIndexReflectsChanges() {
+        // given - precondition or setup
+        employeeSearchIndex.onEmployeeEvent(EmployeeEvent.saved(employee(6L, "Suresh", "Babu", "suresh@mail.com")));
+        employeeSearchIndex.onEmployeeEvent(EmployeeEvent.patched(3L, EmployeePatch.builder().firstName("Zoya").build(), 1L));
+        employeeSearchIndex.onEmployeeEvent(EmployeeEvent.deleted(4L));
+
+        // when  - action or the behaviour that we are going test
+        employeeSearchIndex.refresh();
+
+        // then  - verify the output
+        assertThat(searchIds("suresh")).containsExactly(6L);
+        assertThat(searchIds("zoya dowlath")).containsExactly(3L);
+        assertThat(employeeSearchIndex.search("zoya", 0, 10).getEmployees().get(0).getVersion()).isEqualTo(1L);
+        assertThat(searchIds("khan")).isEmpty();
+        assertThat(employeeSearchIndex.size()).isEqualTo(5);
+    }
+
+    // JUnit test for changes made while the index is rebuilt
+    @Test
+    @DisplayName("JUnit test for search rebuild keeps the events applied while the source is read")
+    public void givenEventsDuringRebuild_whenRebuild_thenIndexReflectsThem() {
+        // given - precondition or setup
+        Employee stale = employee(3L, "Arsh", "Dowlath", "arsh@mail.com");
+
+        // when  - action or the behaviour that we are going test
+        employeeSearchIndex.rebuild(sink -> {
+            sink.accept(employee(1L, "Dowlath", "Basha", "dowlath@mail.com"));
+            employeeSearchIndex.onEmployeeEvent(EmployeeEvent.saved(employee(6L, "Zara", "Khan", "zara@mail.com")));
+            employeeSearchIndex.onEmployeeEvent(EmployeeEvent.patched(3L, EmployeePatch.builder().firstName("Zoya").build(), 1L));
+            employeeSearchIndex.onEmployeeEvent(EmployeeEvent.deleted(1L));
+            sink.accept(stale);
+        });
+
+        // then  - verify the output
+        assertThat(searchIds("zara")).containsExactly(6L);
+        assertThat(searchIds("zoya dowlath")).containsExactly(3L);
+        assertThat(employeeSearchIndex.search("arsh", 0, 10).getEmployees()).extracting(EmployeeDto::getFirstName)
+                .containsExactly("Zoya");
+        assertThat(searchIds("basha")).isEmpty();
+        assertThat(employeeSearchIndex.size()).isEqualTo(2);
+    }
+
+    // JUnit test for a patch never depending on the searcher catching up
+    @Test
+    @DisplayName("JUnit test for patch on an interrupted thread is still applied without waiting for a reopen")
+    public void givenInterruptedThread_whenPatch_thenPatchApplied() {
+        // given - precondition or setup
+        employeeSearchIndex.put(employee(6L, "Suresh", "Babu", "suresh@mail.com"));
+        Thread.currentThread().interrupt();
+
+        // when  - action or the behaviour that we are going test
+        try {
+            employeeSearchIndex.patch(6L, EmployeePatch.builder().lastName("Raina").build(), 1L);
+        } finally {
+            Thread.interrupted();
+        }
+        employeeSearchIndex.refresh();
+
+        // then  - verify the output
+        assertThat(searchIds("suresh raina")).containsExactly(6L);
+        assertThat(searchIds("babu")).isEmpty();
+    }
+
+    // JUnit test for patches of one employee arriving at the same time
+    @Test
+    @DisplayName("JUnit test for concurrent patches of the same employee are all applied")
+    public void givenConcurrentPatches_whenPatch_thenNoPatchIsLost() throws Exception {
+        // given - precondition or setup
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                String firstName = "First" + i;
+                String lastName = "Last" + i;
+
+                // when  - action or the behaviour that we are going test
+                Future<?> first = executor.submit(() -> employeeSearchIndex.patch(3L,
+                        EmployeePatch.builder().firstName(firstName).build(), 1L));
+                Future<?> last = executor.submit(() -> employeeSearchIndex.patch(3L,
+                        EmployeePatch.builder().lastName(lastName).build(), 1L));
+                first.get();
+                last.get();
+                employeeSearchIndex.refresh();
+
+                // then  - verify the output
+                assertThat(searchIds(firstName + " " + lastName)).containsExactly(3L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
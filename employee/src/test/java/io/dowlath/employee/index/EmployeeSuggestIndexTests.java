@@ -0,0 +1,150 @@
+package io.dowlath.employee.index;
+
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:00 AM
+ ***/
+public class EmployeeSuggestIndexTests {
+
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    @BeforeEach
+    public void setup() {
+        employeeSuggestIndex = new EmployeeSuggestIndex();
+        employeeSuggestIndex.put(employee(1L, "Dowlath", "Basha", "dowlath@mail.com"));
+        employeeSuggestIndex.put(employee(2L, "Ariz", "Dowlath", "ariz@mail.com"));
+        employeeSuggestIndex.put(employee(3L, "Arsh", "Dowlath", "arsh@mail.com"));
+        employeeSuggestIndex.put(employee(4L, "Dowlath", "Basha", "dowlath.basha@mail.com"));
+    }
+
+    private static Employee employee(long id, String firstName, String lastName, String email) {
+        return Employee.builder().id(id).firstName(firstName).lastName(lastName).email(email).build();
+    }
+
+    private List<Long> suggestIds(String query, int limit) {
+        List<Long> ids = new ArrayList<>();
+        for (EmployeeDto employee : employeeSuggestIndex.suggest(query, limit)) {
+            ids.add(employee.getId());
+        }
+        return ids;
+    }
+
+    // JUnit test for prefix matches over first name, last name, full name and email
+    @Test
+    @DisplayName("JUnit test for suggest matches any name field, ignoring case")
+    public void givenIndexedEmployees_whenSuggest_thenReturnPrefixMatches() {
+        // given - precondition or setup
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThat(suggestIds("DOW", 10)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(suggestIds("ar", 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(suggestIds("ari", 10)).containsExactly(2L);
+        assertThat(suggestIds("dowlath b", 10)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(suggestIds("dowlath.", 10)).containsExactly(4L);
+        assertThat(suggestIds("zed", 10)).isEmpty();
+        assertThat(suggestIds(" ", 10)).isEmpty();
+    }
+
+    // JUnit test for top-k
+    @Test
+    @DisplayName("JUnit test for suggest returns at most limit distinct employees")
+    public void givenManyMatches_whenSuggestWithLimit_thenReturnLimitDistinctEmployees() {
+        // given - precondition or setup
+        // when  - action or the behaviour that we are going test
+        List<Long> ids = suggestIds("d", 2);
+
+        // then  - verify the output
+        assertThat(ids).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    // JUnit test for incremental maintenance through events
+    @Test
+    @DisplayName("JUnit test for suggest index follows saved, patched and deleted events")
+    public void givenEmployeeEvents_whenSuggest_thenIndexReflectsChanges() {
+        // given - precondition or setup
+        employeeSuggestIndex.onEmployeeEvent(EmployeeEvent.saved(employee(2L, "Ariz", "Khan", "ariz@mail.com")));
+        employeeSuggestIndex.onEmployeeEvent(EmployeeEvent.patched(3L, EmployeePatch.builder().firstName("Zoya").build(), 1L));
+        employeeSuggestIndex.onEmployeeEvent(EmployeeEvent.deleted(4L));
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThat(suggestIds("khan", 10)).containsExactly(2L);
+        assertThat(suggestIds("zoya d", 10)).containsExactly(3L);
+        assertThat(employeeSuggestIndex.suggest("zoya", 10).get(0).getVersion()).isEqualTo(1L);
+        assertThat(suggestIds("arsh dowlath", 10)).isEmpty();
+        assertThat(suggestIds("dowlath", 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(employeeSuggestIndex.size()).isEqualTo(3);
+    }
+
+    // JUnit test for changes made while the index is rebuilt
+    @Test
+    @DisplayName("JUnit test for rebuild keeps the events applied while the source is read")
+    public void givenEventsDuringRebuild_whenRebuild_thenReplacementReflectsThem() {
+        // given - precondition or setup
+        Employee stale = employee(3L, "Arsh", "Dowlath", "arsh@mail.com");
+
+        // when  - action or the behaviour that we are going test
+        employeeSuggestIndex.rebuild(sink -> {
+            sink.accept(employee(1L, "Dowlath", "Basha", "dowlath@mail.com"));
+            employeeSuggestIndex.onEmployeeEvent(EmployeeEvent.saved(employee(5L, "Zara", "Khan", "zara@mail.com")));
+            employeeSuggestIndex.onEmployeeEvent(EmployeeEvent.patched(3L, EmployeePatch.builder().firstName("Zoya").build(), 1L));
+            employeeSuggestIndex.onEmployeeEvent(EmployeeEvent.deleted(1L));
+            sink.accept(stale);
+        });
+
+        // then  - verify the output
+        assertThat(suggestIds("zara", 10)).containsExactly(5L);
+        assertThat(suggestIds("zoya", 10)).containsExactly(3L);
+        assertThat(suggestIds("arsh dowlath", 10)).isEmpty();
+        assertThat(suggestIds("basha", 10)).isEmpty();
+        assertThat(employeeSuggestIndex.size()).isEqualTo(2);
+    }
+
+    // JUnit test for node splits and merges against a brute force scan
+    @Test
+    @DisplayName("JUnit test for trie prefix search matches a sorted map after random inserts and removals")
+    public void givenRandomKeys_whenPutAndRemove_thenPrefixMatchesBruteForce() {
+        // given - precondition or setup
+        NameTrie trie = new NameTrie();
+        TreeMap<String, Long> expected = new TreeMap<>();
+        Random random = new Random(42);
+        List<String> alphabet = Arrays.asList("a", "b", "ab", "ba", "abc");
+        for (long id = 0; id < 2000; id++) {
+            StringBuilder key = new StringBuilder();
+            int parts = 1 + random.nextInt(4);
+            for (int i = 0; i < parts; i++) {
+                key.append(alphabet.get(random.nextInt(alphabet.size())));
+            }
+            if(expected.containsKey(key.toString())){
+                trie.remove(key.toString(), expected.remove(key.toString()));
+            } else {
+                trie.put(key.toString(), id);
+                expected.put(key.toString(), id);
+            }
+        }
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        for (String prefix : Arrays.asList("a", "ab", "aba", "b", "bab", "abcab", "c")) {
+            List<Long> matches = new ArrayList<>(expected.subMap(prefix, prefix + Character.MAX_VALUE).values());
+            assertThat(trie.prefix(prefix, Integer.MAX_VALUE)).containsExactlyInAnyOrderElementsOf(matches);
+        }
+    }
+}
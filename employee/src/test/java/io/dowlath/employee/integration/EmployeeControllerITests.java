@@ -105,6 +105,24 @@ public class EmployeeControllerITests {
                         CoreMatchers.is(listOfEmployees.size())));
     }
 
+    // JUnit test for GET all employees with the total, exact where the database keeps no table statistics
+    @Test
+    @DisplayName("Junit Test case for Get all employees with total count")
+    public void givenListOfEmployees_whenGetAllEmployeesWithTotal_thenReturnTotalCount() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build());
+        listOfEmployees.add(Employee.builder().firstName("Ariz").lastName("Dowlath").email("ariz@mail.com").build());
+        employeeRepository.saveAll(listOfEmployees);
+
+        // when  - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/employees").param("includeTotal", "true"));
+
+        // then  - verify the output
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("X-Total-Count", "2"));
+    }
+
     // Positive scenario - valid employee id
     // JUnit test for GET employee by id REST API
     @Test
@@ -0,0 +1,131 @@
+package io.dowlath.employee.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 4:00 PM
+ ***/
+// CSV import over HTTP against the embedded database : a real multipart upload through Tomcat, read as it streams in
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+public class EmployeeImportITests {
+
+    private static final int ROWS = 2500;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("Junit test case for multipart CSV import in several batches, duplicates rejected, job status kept")
+    public void givenMultipartCsv_whenImport_thenRowsSavedAndJobReported() {
+        // given - precondition or setup
+        employeeRepository.save(Employee.builder().firstName("Taken").lastName("Already")
+                .email("taken@import.com").build());
+        StringBuilder csv = new StringBuilder("firstName,lastName,email\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("First").append(i).append(",Last").append(i).append(",employee").append(i).append("@import.com\n");
+        }
+        csv.append("Again,Twice,employee0@import.com\n");
+        csv.append("Taken,Already,taken@import.com\n");
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        parts.add("file", new ByteArrayResource(csv.toString().getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "employees.csv";
+            }
+        });
+
+        // when  - action or the behaviour that we are going test
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity("/api/employees/import", parts, JsonNode.class);
+
+        // then  - verify the output
+        assertThat(response.getStatusCodeValue()).isEqualTo(200);
+        JsonNode job = response.getBody();
+        assertThat(job.get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("rowsRead").asLong()).isEqualTo(ROWS + 2);
+        assertThat(job.get("rowsImported").asLong()).isEqualTo(ROWS);
+        assertThat(job.get("rowsRejected").asLong()).isEqualTo(2);
+        assertThat(job.get("errors").findValuesAsText("row")).containsExactlyInAnyOrder(
+                String.valueOf(ROWS + 2), String.valueOf(ROWS + 3));
+        assertThat(employeeRepository.findByEmail("employee" + (ROWS - 1) + "@import.com")).isPresent();
+
+        ResponseEntity<JsonNode> status = restTemplate.getForEntity(response.getHeaders().getLocation(), JsonNode.class);
+        assertThat(status.getStatusCodeValue()).isEqualTo(200);
+        assertThat(status.getBody().get("id")).isEqualTo(job.get("id"));
+        assertThat(restTemplate.getForEntity("/api/employees/import/unknown", String.class).getStatusCodeValue())
+                .isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Junit test case for text/csv import, 400 for a file without the required columns")
+    public void givenCsvBody_whenImport_thenSavedOrRejected() {
+        // given - precondition or setup
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        HttpEntity<String> valid = new HttpEntity<>("email,firstName,lastName\nplain@import.com,Plain,Csv\n", headers);
+        HttpEntity<String> invalid = new HttpEntity<>("name\nPlain Csv\n", headers);
+
+        // when  - action or the behaviour that we are going test
+        ResponseEntity<JsonNode> imported = restTemplate.postForEntity("/api/employees/import", valid, JsonNode.class);
+        ResponseEntity<JsonNode> rejected = restTemplate.postForEntity("/api/employees/import", invalid, JsonNode.class);
+
+        // then  - verify the output
+        assertThat(imported.getStatusCodeValue()).isEqualTo(200);
+        assertThat(imported.getBody().get("rowsImported").asLong()).isEqualTo(1);
+        assertThat(employeeRepository.findByEmail("plain@import.com")).isPresent();
+        assertThat(rejected.getStatusCodeValue()).isEqualTo(400);
+        assertThat(rejected.getBody().get("state").asText()).isEqualTo("REJECTED");
+    }
+
+    @Test
+    @DisplayName("Junit test case for import under an X-Import-Id, 409 when the id is reused and 400 when malformed")
+    public void givenImportIdHeader_whenImport_thenJobHasThatId() {
+        // given - precondition or setup
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        headers.set("X-Import-Id", "nightly-1");
+        HttpEntity<String> csv = new HttpEntity<>("email,firstName,lastName\nnightly@import.com,Nightly,Csv\n", headers);
+        HttpHeaders malformedHeaders = new HttpHeaders();
+        malformedHeaders.setContentType(MediaType.parseMediaType("text/csv"));
+        malformedHeaders.set("X-Import-Id", "not/a job");
+
+        // when  - action or the behaviour that we are going test
+        ResponseEntity<JsonNode> imported = restTemplate.postForEntity("/api/employees/import", csv, JsonNode.class);
+        ResponseEntity<JsonNode> polled = restTemplate.getForEntity("/api/employees/import/nightly-1", JsonNode.class);
+        ResponseEntity<JsonNode> reused = restTemplate.postForEntity("/api/employees/import", csv, JsonNode.class);
+        ResponseEntity<JsonNode> malformed = restTemplate.postForEntity("/api/employees/import",
+                new HttpEntity<>("email,firstName,lastName\n", malformedHeaders), JsonNode.class);
+
+        // then  - verify the output
+        assertThat(imported.getStatusCodeValue()).isEqualTo(200);
+        assertThat(imported.getBody().get("id").asText()).isEqualTo("nightly-1");
+        assertThat(polled.getBody().get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(reused.getStatusCodeValue()).isEqualTo(409);
+        assertThat(malformed.getStatusCodeValue()).isEqualTo(400);
+        assertThat(employeeRepository.findByEmail("nightly@import.com")).isPresent();
+    }
+}
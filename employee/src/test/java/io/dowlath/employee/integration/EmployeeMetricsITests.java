@@ -0,0 +1,64 @@
+package io.dowlath.employee.integration;
+
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:20 AM
+ ***/
+// scrapes /actuator/prometheus over HTTP the way a Prometheus server would, against the embedded database
+// metrics export is switched off in tests unless asked for
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMetrics
+@ActiveProfiles("embedded")
+public class EmployeeMetricsITests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("Junit test case for Prometheus scrape of endpoint, service, repository, pool and cache metrics")
+    public void givenTraffic_whenScrapePrometheus_thenLatencyHistogramsAndGaugesExposed() {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Dowlath")
+                .lastName("Basha")
+                .email("dowlath.metrics@mail.com")
+                .build();
+        Employee savedEmployee = restTemplate.postForObject("/api/employees", employee, Employee.class);
+        restTemplate.getForObject("/api/employees/{id}", String.class, savedEmployee.getId());
+        restTemplate.getForObject("/api/employees/{id}", String.class, savedEmployee.getId());
+        employeeRepository.findByJPQL("Dowlath", "Basha");
+        employeeRepository.findByNativeSQLNamed("Dowlath", "Basha");
+
+        // when  - action or the behaviour that we are going test
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // then  - verify the output
+        assertThat(response.getStatusCodeValue()).isEqualTo(200);
+        String scrape = response.getBody();
+        assertThat(scrape).contains("http_server_requests_seconds_bucket{application=\"employee\",exception=\"None\",method=\"GET\"");
+        assertThat(scrape).containsPattern("http_server_requests_seconds\\{.*uri=\"/api/employees/\\{id\\}\".*quantile=\"0.99\"");
+        assertThat(scrape).containsPattern("employee_service_seconds_count\\{.*method=\"getEmployeeById\"");
+        assertThat(scrape).containsPattern("employee_service_seconds_bucket\\{.*method=\"saveEmployee\"");
+        assertThat(scrape).containsPattern("spring_data_repository_invocations_seconds_count\\{.*method=\"findByJPQL\"");
+        assertThat(scrape).containsPattern("spring_data_repository_invocations_seconds_count\\{.*method=\"findByNativeSQLNamed\"");
+        assertThat(scrape).contains("hikaricp_connections_active");
+        assertThat(scrape).containsPattern("cache_gets_total\\{.*cache=\"employeesById\".*result=\"hit\"");
+    }
+}
@@ -0,0 +1,70 @@
+package io.dowlath.employee.integration;
+
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 10:00 AM
+ ***/
+// two in-memory databases, nothing replicates between them : whatever a read returns shows where it was routed
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "employee.datasource.routing.enabled=true",
+        "employee.datasource.replicas[0].url=" + EmployeeReadReplicaITests.REPLICA_URL,
+        "employee.datasource.replicas[0].username=sa",
+        "employee.datasource.read-your-writes=0s"
+})
+@ActiveProfiles("embedded")
+public class EmployeeReadReplicaITests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:ems_replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    // a real replica gets the schema from its primary
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+    }
+
+    @BeforeEach
+    void setup() {
+        replica.update("delete from employees");
+        replica.update("insert into employees (id, first_name, last_name, email, version) values (?, ?, ?, ?, ?)",
+                1000L, "Replica", "Row", "replica@mail.com", 0L);
+    }
+
+    @Test
+    @DisplayName("Junit test case for writes going to the primary and reads to the replica")
+    public void givenSavedEmployee_whenReadEmployees_thenServedFromReplica() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Dowlath").lastName("Basha").email("dowlath.primary@mail.com").build());
+
+        // when  - action or the behaviour that we are going test
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        // then  - verify the output
+        assertThat(savedEmployee.getId()).isPositive();
+        assertThat(employees).extracting(Employee::getEmail).containsExactly("replica@mail.com");
+        assertThat(employeeService.getEmployeeById(1000L)).map(Employee::getFirstName).contains("Replica");
+    }
+}
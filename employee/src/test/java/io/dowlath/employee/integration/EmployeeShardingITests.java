@@ -0,0 +1,119 @@
+package io.dowlath.employee.integration;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.service.EmployeeService;
+import io.dowlath.employee.shard.ShardRouter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 11:25 AM
+ ***/
+// three in-memory databases of their own, queried directly to see where rows landed. Shard 0 is not the embedded
+// database the other tests write to : sharding only starts on empty databases
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=" + EmployeeShardingITests.SHARD_0_URL,
+        "employee.sharding.enabled=true",
+        "employee.sharding.shards[0].url=" + EmployeeShardingITests.SHARD_1_URL,
+        "employee.sharding.shards[0].username=sa",
+        "employee.sharding.shards[1].url=" + EmployeeShardingITests.SHARD_2_URL,
+        "employee.sharding.shards[1].username=sa"
+})
+@ActiveProfiles("embedded")
+public class EmployeeShardingITests {
+
+    // migrated by the application
+    static final String SHARD_0_URL = "jdbc:h2:mem:ems_shard0;DB_CLOSE_DELAY=-1";
+
+    static final String SHARD_1_URL = "jdbc:h2:mem:ems_shard1;DB_CLOSE_DELAY=-1";
+
+    static final String SHARD_2_URL = "jdbc:h2:mem:ems_shard2;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private final List<JdbcTemplate> shards = Arrays.asList(
+            new JdbcTemplate(new DriverManagerDataSource(SHARD_0_URL, "sa", "")),
+            new JdbcTemplate(new DriverManagerDataSource(SHARD_1_URL, "sa", "")),
+            new JdbcTemplate(new DriverManagerDataSource(SHARD_2_URL, "sa", "")));
+
+    private static Employee employee(String key) {
+        return Employee.builder().firstName("First" + key).lastName("Last" + key).email(key + "@shard.com").build();
+    }
+
+    private int shardHolding(long id) {
+        int holding = -1;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            Integer rows = shards.get(shard).queryForObject("select count(*) from employees where id = ?",
+                    Integer.class, id);
+            if(rows == 1){
+                assertThat(holding).as("employee %d on more than one shard", id).isEqualTo(-1);
+                holding = shard;
+            }
+        }
+        return holding;
+    }
+
+    @Test
+    @DisplayName("Junit test case for employees spread over the shards and read back from all of them")
+    public void givenSavedEmployees_whenReadBack_thenEachOnTheShardOfItsId() {
+        // given - precondition or setup
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(employeeService.saveEmployee(employee("single" + i)).getId());
+        }
+        List<BulkItemResult> results = employeeService.saveEmployees(Arrays.asList(
+                employee("bulk0"), employee("bulk1"), employee("bulk2"), employee("single0")));
+
+        // when  - action or the behaviour that we are going test
+        results.stream().filter(result -> result.getStatus() == HttpStatus.CREATED.value())
+                .forEach(result -> ids.add(result.getId()));
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        // then  - verify the output
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(201, 201, 201, 409);
+        assertThat(ids).hasSize(9).doesNotHaveDuplicates();
+        for (Long id : ids) {
+            assertThat(shardHolding(id)).isEqualTo(shardRouter.shardOf(id));
+            assertThat(employeeService.getEmployeeById(id)).isPresent();
+        }
+        assertThat(ids).extracting(shardRouter::shardOf).contains(0, 1, 2);
+        assertThat(employees).extracting(Employee::getId).containsAll(ids).isSorted();
+    }
+
+    @Test
+    @DisplayName("Junit test case for an email unique across shards until its employee is deleted")
+    public void givenEmailTakenOnOneShard_whenSaveOnAnother_thenRejectedUntilDeleted() {
+        // given - precondition or setup
+        Employee savedEmployee = employeeService.saveEmployee(employee("unique"));
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        for (int i = 0; i < shards.size(); i++) {
+            assertThatThrownBy(() -> employeeService.saveEmployee(employee("unique")))
+                    .isInstanceOf(ConflictException.class);
+        }
+        assertThat(employeeService.deleteEmployee(savedEmployee.getId())).isTrue();
+        assertThat(employeeService.saveEmployee(employee("unique")).getId()).isPositive();
+    }
+}
@@ -0,0 +1,61 @@
+package io.dowlath.employee.integration;
+
+import io.dowlath.employee.EmployeeApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 12:45 PM
+ ***/
+// boots the fast-startup profile the way a new instance starts and times it up to the first answered request. Beans
+// created lazily are part of that time, so lazy initialization cannot hide cost behind the first request. Runs in the
+// test JVM, the JVM start itself is not counted
+public class EmployeeStartupITests {
+
+    // 15 to 21 s measured on a single CPU, where the JIT competes with the startup itself
+    static final Duration TIME_TO_FIRST_REQUEST_BUDGET = Duration.ofSeconds(30);
+
+    private ConfigurableApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if(context != null){
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Junit test case for the first request of a fast-startup instance answered within the budget")
+    public void givenFastStartupProfile_whenStartAndFirstRequest_thenWithinBudget() {
+        // given - precondition or setup
+        long start = System.nanoTime();
+
+        // when  - action or the behaviour that we are going test
+        context = new SpringApplicationBuilder(EmployeeApplication.class)
+                .applicationStartup(new BufferingApplicationStartup(10000))
+                .profiles("fast-startup", "embedded")
+                // a database of its own, migrated from empty like the one of a new deployment
+                .run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:ems_startup;DB_CLOSE_DELAY=-1");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        ResponseEntity<String> response = new RestTemplate()
+                .getForEntity("http://localhost:" + port + "/api/employees", String.class);
+        Duration timeToFirstRequest = Duration.ofNanos(System.nanoTime() - start);
+
+        // then  - verify the output
+        assertThat(response.getStatusCodeValue()).isEqualTo(200);
+        assertThat(timeToFirstRequest).isLessThan(TIME_TO_FIRST_REQUEST_BUDGET);
+    }
+}
@@ -0,0 +1,166 @@
+package io.dowlath.employee.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dowlath.employee.datasource.StatementCounter;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 2:15 PM
+ ***/
+// statement budget of every endpoint : a change that adds a hidden query (a select before a delete, a load before an
+// update, one query per row) fails here. Every request is sampled as well, to cover the per-request report
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+        "employee.statements.enabled=true",
+        "employee.statements.sample-rate=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+public class EmployeeStatementBudgetITests {
+
+    private static final AtomicInteger EMAILS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static Employee employee() {
+        int key = EMAILS.incrementAndGet();
+        return Employee.builder().firstName("First" + key).lastName("Last" + key).email(key + "@budget.com").build();
+    }
+
+    // saved behind the service, its caches have never seen it
+    private Employee savedEmployee() {
+        return employeeRepository.save(employee());
+    }
+
+    private StatementCounter.Statements statementsOf(RequestBuilder request, int expectedStatus) throws Exception {
+        try (StatementCounter.Statements statements = statementCounter.start()) {
+            mockMvc.perform(request).andExpect(status().is(expectedStatus));
+            return statements;
+        }
+    }
+
+    @Test
+    @DisplayName("Junit test case for GET /api/employees/{id} within one statement, none once cached")
+    public void givenEmployee_whenGetById_thenAtMostOneStatement() throws Exception {
+        // given - precondition or setup
+        Employee employee = savedEmployee();
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements cold = statementsOf(get("/api/employees/{id}", employee.getId()), 200);
+        StatementCounter.Statements cached = statementsOf(get("/api/employees/{id}", employee.getId()), 200);
+
+        // then  - verify the output
+        assertThat(cold.getCount()).as(cold.toString()).isLessThanOrEqualTo(1);
+        assertThat(cached.getCount()).as(cached.toString()).isZero();
+    }
+
+    @Test
+    @DisplayName("Junit test case for POST /api/employees within two statements, the id and the insert")
+    public void givenNewEmployee_whenCreate_thenAtMostTwoStatements() throws Exception {
+        // given - precondition or setup
+        String body = objectMapper.writeValueAsString(employee());
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements statements = statementsOf(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON).content(body), 201);
+
+        // then  - verify the output
+        assertThat(statements.getCount()).as(statements.toString()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Junit test case for PUT /api/employees/{id} within three statements : lookup, load of the merge, update")
+    public void givenEmployee_whenUpdate_thenAtMostThreeStatements() throws Exception {
+        // given - precondition or setup
+        Employee employee = savedEmployee();
+        String body = objectMapper.writeValueAsString(employee.toBuilder().firstName("Updated").build());
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements statements = statementsOf(put("/api/employees/{id}", employee.getId())
+                .contentType(MediaType.APPLICATION_JSON).content(body), 200);
+
+        // then  - verify the output
+        assertThat(statements.getCount()).as(statements.toString()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Junit test case for PATCH /api/employees/{id} within one statement")
+    public void givenEmployee_whenPatch_thenAtMostOneStatement() throws Exception {
+        // given - precondition or setup
+        Employee employee = savedEmployee();
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements statements = statementsOf(patch("/api/employees/{id}", employee.getId())
+                .header("If-Match", "\"" + employee.getVersion() + "\"")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"firstName\":\"Patched\"}"), 204);
+
+        // then  - verify the output
+        assertThat(statements.getCount()).as(statements.toString()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Junit test case for DELETE /api/employees/{id} within one statement, no select before the delete")
+    public void givenEmployee_whenDelete_thenAtMostOneStatement() throws Exception {
+        // given - precondition or setup
+        Employee employee = savedEmployee();
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements statements = statementsOf(delete("/api/employees/{id}", employee.getId()), 200);
+
+        // then  - verify the output
+        assertThat(statements.getCount()).as(statements.toString()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Junit test case for a page of GET /api/employees within one statement whatever its size")
+    public void givenEmployees_whenGetPage_thenOneStatementAndNoRepeats() throws Exception {
+        // given - precondition or setup
+        for (int i = 0; i < 5; i++) {
+            savedEmployee();
+        }
+
+        // when  - action or the behaviour that we are going test
+        StatementCounter.Statements statements = statementsOf(get("/api/employees").param("limit", "5"), 200);
+
+        // then  - verify the output
+        assertThat(statements.getCount()).as(statements.toString()).isLessThanOrEqualTo(1);
+        assertThat(statements.getRepeated()).isEmpty();
+        assertThat(meterRegistry.find("employee.request.statements").tag("uri", "/api/employees").summary())
+                .isNotNull();
+    }
+}
@@ -0,0 +1,194 @@
+package io.dowlath.employee.integration;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 3:30 AM
+ ***/
+// WebFlux/R2DBC variant of the API over HTTP against the embedded R2DBC H2 database
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"reactive", "embedded"})
+public class ReactiveEmployeeITests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setup() {
+        databaseClient.sql("delete from employees").fetch().rowsUpdated().block();
+    }
+
+    private Employee createEmployee(String firstName) {
+        Employee employee = Employee.builder()
+                .firstName(firstName)
+                .lastName("Basha")
+                .email(firstName.toLowerCase() + "@mail.com")
+                .build();
+        return webTestClient.post().uri("/api/employees")
+                .bodyValue(employee)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Employee.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Test
+    @DisplayName("Junit test case for reactive save and get employee by id")
+    public void givenEmployeeObject_whenCreateAndGetEmployee_thenReturnSavedEmployee() {
+        // given - precondition or setup
+        Employee savedEmployee = createEmployee("Dowlath");
+
+        // when  - action or the behaviour that we are going test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", savedEmployee.getId())
+                .exchange();
+
+        // then  - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedEmployee.getId())
+                .jsonPath("$.firstName").isEqualTo("Dowlath")
+                .jsonPath("$.email").isEqualTo("dowlath@mail.com")
+                .jsonPath("$.version").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Junit test case for reactive get employee by id not found")
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenReturnNotFound() {
+        // given - precondition or setup
+        long employeeId = 1L;
+
+        // when  - action or the behaviour that we are going test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", employeeId).exchange();
+
+        // then  - verify the output
+        response.expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Junit test case for reactive keyset page with next link")
+    public void givenEmployees_whenGetFirstPage_thenReturnPageAndNextCursor() {
+        // given - precondition or setup
+        Employee first = createEmployee("Dowlath");
+        Employee second = createEmployee("Ramesh");
+        createEmployee("Suresh");
+
+        // when  - action or the behaviour that we are going test
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri("/api/employees?limit=2&includeTotal=true")
+                .exchange();
+
+        // then  - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", String.valueOf(second.getId()))
+                .expectHeader().valueEquals("X-Total-Count", "3")
+                .expectHeader().value(HttpHeaders.LINK, link -> assertThat(link).contains("after=" + second.getId()))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(first.getId())
+                .jsonPath("$[1].id").isEqualTo(second.getId());
+    }
+
+    @Test
+    @DisplayName("Junit test case for reactive update employee")
+    public void givenSavedEmployee_whenUpdateEmployee_thenReturnUpdatedEmployee() {
+        // given - precondition or setup
+        Employee savedEmployee = createEmployee("Dowlath");
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@mail.com")
+                .build();
+
+        // when  - action or the behaviour that we are going test
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", savedEmployee.getId())
+                .bodyValue(updatedEmployee)
+                .exchange();
+
+        // then  - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Ram")
+                .jsonPath("$.email").isEqualTo("ram@mail.com")
+                .jsonPath("$.version").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Junit test case for reactive patch employee with current and stale If-Match")
+    public void givenSavedEmployee_whenPatchEmployeeTwiceWithSameVersion_thenSecondPatchPreconditionFailed() {
+        // given - precondition or setup
+        Employee savedEmployee = createEmployee("Dowlath");
+        EmployeePatch patch = EmployeePatch.builder().lastName("G").build();
+
+        // when  - action or the behaviour that we are going test
+        WebTestClient.ResponseSpec first = webTestClient.patch().uri("/api/employees/{id}", savedEmployee.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(patch)
+                .exchange();
+        WebTestClient.ResponseSpec second = webTestClient.patch().uri("/api/employees/{id}", savedEmployee.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(patch)
+                .exchange();
+
+        // then  - verify the output
+        first.expectStatus().isNoContent().expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+        second.expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    @DisplayName("Junit test case for reactive bulk create, export and bulk delete")
+    public void givenEmployeeList_whenBulkCreateExportAndDelete_thenAllRowsHandled() {
+        // given - precondition or setup
+        List<Employee> employees = Arrays.asList(
+                Employee.builder().firstName("Dowlath").lastName("Basha").email("dowlath@mail.com").build(),
+                Employee.builder().firstName("Ramesh").lastName("Kumar").email("dowlath@mail.com").build(),
+                Employee.builder().firstName("Suresh").lastName("Babu").email("suresh@mail.com").build());
+
+        // when  - action or the behaviour that we are going test
+        List<BulkItemResult> results = webTestClient.post().uri("/api/employees/bulk")
+                .bodyValue(employees)
+                .exchange()
+                .expectStatus().isEqualTo(207)
+                .expectBodyList(BulkItemResult.class)
+                .returnResult()
+                .getResponseBody();
+        List<Employee> exported = webTestClient.get().uri("/api/employees/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Employee.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        WebTestClient.ResponseSpec deleted = webTestClient.delete()
+                .uri("/api/employees?ids={first},{third}", results.get(0).getId(), results.get(2).getId())
+                .exchange();
+
+        // then  - verify the output
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(201, 409, 201);
+        assertThat(exported).extracting(Employee::getEmail).containsExactly("dowlath@mail.com", "suresh@mail.com");
+        deleted.expectStatus().isOk().expectBody(String.class).isEqualTo("2 employees deleted successfully");
+    }
+}
@@ -0,0 +1,49 @@
+package io.dowlath.employee.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 5:10 PM
+ ***/
+public class EmployeeMigrationTests {
+
+    // JUnit test for a database the former ddl-auto=update created, baselined and upgraded by Flyway
+    @Test
+    @DisplayName("JUnit test for migrations upgrade a database created by ddl-auto=update")
+    public void givenDdlAutoUpdateSchema_whenMigrate_thenUpgradedAndIdsContinuePastExistingOnes() {
+        // given - precondition or setup
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:legacy;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table employees (id bigint generated by default as identity,"
+                + " email varchar(255) not null, first_name varchar(255) not null, last_name varchar(255) not null,"
+                + " primary key (id))");
+        jdbcTemplate.update("insert into employees (id, email, first_name, last_name) values (120, 'ramesh@gmail.com',"
+                + " 'Ramesh', 'Fadatare')");
+
+        // when  - action or the behaviour that we are going test
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // then  - verify the output
+        assertThat(jdbcTemplate.queryForObject("select version from employees where id = 120", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select next value for employees_seq", Long.class))
+                .isGreaterThan(120 + 49);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.constraints"
+                + " where constraint_name = 'UK_EMPLOYEES_EMAIL'", Integer.class)).isEqualTo(1);
+    }
+}
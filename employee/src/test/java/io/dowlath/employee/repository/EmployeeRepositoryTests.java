@@ -1,5 +1,7 @@
 package io.dowlath.employee.repository;
 
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeePatch;
 import io.dowlath.employee.model.Employee;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,11 +9,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /***
  * Author : Dowlath Basha G
@@ -24,6 +33,9 @@ public class EmployeeRepositoryTests {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Employee employee;
 
     @BeforeEach
@@ -64,8 +76,66 @@ public class EmployeeRepositoryTests {
 
         // then  - verify the output
         assertThat(employeeList).isNotNull();
-        assertThat(employeeList.size()).isEqualTo(3);
+        assertThat(employeeList.size()).isEqualTo(2);
+
+    }
+
+    // JUnit test for keyset page operation
+    @Test
+    @DisplayName("JUnit test for keyset page after a cursor operation")
+    public void givenEmployeeList_whenFindPageAfter_thenReturnNextRowsInIdOrder() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().firstName("Ariz")
+                .lastName("Dowlath").email("ariz@email.comn").build();
+        Employee employee2 = Employee.builder().firstName("Arsh")
+                .lastName("Dowlath").email("arsh@email.comn").build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        employeeRepository.save(employee2);
+
+        // when  - action or the behaviour that we are going test
+        List<EmployeeDto> employeeList = employeeRepository.findPageAfter(employee.getId(), PageRequest.of(0, 1));
 
+        // then  - verify the output
+        assertThat(employeeList).hasSize(1);
+        assertThat(employeeList.get(0).getId()).isEqualTo(employee1.getId());
+        assertThat(employeeList.get(0).getEmail()).isEqualTo(employee1.getEmail());
+    }
+
+    // JUnit test for stream all employees operation
+    @Test
+    @DisplayName("JUnit test for stream all employees operation")
+    public void givenEmployeeList_whenStreamAll_thenReturnEmployeesInIdOrder() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().firstName("Ariz")
+                .lastName("Dowlath").email("ariz@email.comn").build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when  - action or the behaviour that we are going test
+        List<Long> ids;
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            ids = employees.map(Employee::getId).collect(Collectors.toList());
+        }
+
+        // then  - verify the output
+        assertThat(ids).containsExactly(employee.getId(), employee1.getId());
+    }
+
+    // JUnit test for unique email constraint
+    @Test
+    @DisplayName("JUnit test for save employee with duplicate email operation")
+    public void givenExistingEmail_whenSaveEmployee_thenThrowsDataIntegrityViolation() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().firstName("Ariz")
+                .lastName("Dowlath").email(employee.getEmail()).build();
+        employeeRepository.saveAndFlush(employee);
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        assertThatThrownBy(() -> employeeRepository.saveAndFlush(employee1))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining(Employee.EMAIL_UNIQUE_CONSTRAINT.toUpperCase());
     }
 
     // JUnit test for get employee by id operation
@@ -85,6 +155,23 @@ public class EmployeeRepositoryTests {
         assertThat(employeeDB).isNotNull();
     }
 
+    // JUnit test for get employee by id without managing it
+    @Test
+    @DisplayName("JUnit test for find detached employee by id operation")
+    public void givenEmployeeObject_whenFindDetachedById_thenUnmanagedEmployeeObject() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when  - action or the behaviour that we are going test
+        Employee employeeDB = employeeRepository.findDetachedById(employee.getId()).get();
+
+        // then  - verify the output
+        assertThat(employeeDB).isEqualTo(employee);
+        assertThat(entityManager.getEntityManager().contains(employeeDB)).isFalse();
+    }
+
     // JUnit test for get employee by email operation
     @Test
     @DisplayName("JUnit test for get employee by email operation")
@@ -119,6 +206,30 @@ public class EmployeeRepositoryTests {
 
     }
 
+    // JUnit test for patch employee operation
+    @Test
+    @DisplayName("JUnit test for patch employee operation")
+    public void givenEmployeeObject_whenPatch_thenOnlyPatchedColumnAndVersionChange() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        long version = employee.getVersion();
+
+        // when  - action or the behaviour that we are going test
+        int updatedRows = employeeRepository.patch(employee.getId(),
+                EmployeePatch.builder().email("dowlathbasha@gmail.com").build(), version);
+        int staleRows = employeeRepository.patch(employee.getId(),
+                EmployeePatch.builder().lastName("Basha").build(), version);
+        entityManager.clear();
+
+        // then  - verify the output
+        Employee patchedEmployee = employeeRepository.findById(employee.getId()).get();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(staleRows).isEqualTo(0);
+        assertThat(patchedEmployee.getEmail()).isEqualTo("dowlathbasha@gmail.com");
+        assertThat(patchedEmployee.getLastName()).isEqualTo("Basha G");
+        assertThat(patchedEmployee.getVersion()).isEqualTo(version + 1);
+    }
+
     // JUnit test for delete employee operation
     @Test
     @DisplayName("JUnit test for delete employee operation")
@@ -135,6 +246,38 @@ public class EmployeeRepositoryTests {
 
     }
 
+    // JUnit test for single statement delete operation
+    @Test
+    @DisplayName("JUnit test for delete employee by id in one statement operation")
+    public void givenEmployee_whenDeleteEmployeeById_thenReturnDeletedRowCount() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        // when  - action or the behaviour that we are going test
+        int deleted = employeeRepository.deleteEmployeeById(employee.getId());
+        int deletedAgain = employeeRepository.deleteEmployeeById(employee.getId());
+        entityManager.clear();
+        // then  - verify the output
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isEqualTo(0);
+        assertThat(employeeRepository.findById(employee.getId())).isEmpty();
+    }
+
+    // JUnit test for bulk delete operation
+    @Test
+    @DisplayName("JUnit test for delete employees by ids operation")
+    public void givenEmployeeList_whenDeleteEmployeesByIdIn_thenReturnDeletedRowCount() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder().firstName("Ariz")
+                .lastName("Dowlath").email("ariz@email.comn").build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        // when  - action or the behaviour that we are going test
+        int deleted = employeeRepository.deleteEmployeesByIdIn(
+                Arrays.asList(employee.getId(), employee1.getId(), -1L));
+        // then  - verify the output
+        assertThat(deleted).isEqualTo(2);
+    }
+
     // JUnit test for custom query using JPQL by index
     @Test
     @DisplayName("JUnit test for custom query using JPQL by index")
@@ -1,6 +1,19 @@
 package io.dowlath.employee.service;
 
-import io.dowlath.employee.exception.ResourceNotFoundException;
+import io.dowlath.employee.batch.EmployeeWriteBehindQueue;
+import io.dowlath.employee.cache.EmployeeCache;
+import io.dowlath.employee.cache.EmployeeCollectionVersion;
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.dto.EmployeeDto;
+import io.dowlath.employee.dto.EmployeeSearchResult;
+import io.dowlath.employee.dto.EmployeePatch;
+import io.dowlath.employee.exception.PreconditionFailedException;
+import io.dowlath.employee.exception.ConflictException;
+import io.dowlath.employee.exception.ServiceUnavailableException;
+import io.dowlath.employee.event.EmployeeEvent;
+import io.dowlath.employee.index.EmailBloomFilter;
+import io.dowlath.employee.index.EmployeeSearchIndex;
+import io.dowlath.employee.index.EmployeeSuggestIndex;
 import io.dowlath.employee.model.Employee;
 import io.dowlath.employee.repository.EmployeeRepository;
 import io.dowlath.employee.service.Impl.EmployeeServiceImpl;
@@ -12,21 +25,38 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
+import javax.persistence.EntityManager;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 /***
@@ -40,6 +70,33 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(1000, 0.01);
+
+    @Spy
+    private EmployeeCache employeeCache = new EmployeeCache(100, Duration.ofMinutes(10), Duration.ofSeconds(1));
+
+    @Spy
+    private EmployeeSuggestIndex employeeSuggestIndex = new EmployeeSuggestIndex();
+
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Spy
+    private EmployeeCollectionVersion employeeCollectionVersion = new EmployeeCollectionVersion();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -62,8 +119,6 @@ public class EmployeeServiceTests {
         // given - precondition or setup
         /*Employee employee = Employee.builder().firstName("Dowlath")
                             .lastName("Basha G").email("dowlath@mail.com").build();*/
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.empty());
         given(employeeRepository.save(employee)).willReturn(employee);
         System.out.println(employeeRepository);
         System.out.println(employeeService);
@@ -72,6 +127,160 @@ public class EmployeeServiceTests {
         System.out.println(savedEmployee);
         // then  - verify the output
         assertThat(savedEmployee).isNotNull();
+        // new email : the filter rules it out, no lookup before the insert
+        verify(employeeRepository, never()).findByEmail(employee.getEmail());
+        assertThat(emailBloomFilter.mightContain(employee.getEmail())).isTrue();
+    }
+
+    // JUnit test for saving employee announces the change
+    @Test
+    @DisplayName("JUnit test for saving employee publishes a saved event")
+    public void givenEmployeeObject_whenSaveEmployee_thenSavedEventPublished() {
+        // given - precondition or setup
+        given(employeeRepository.save(employee)).willReturn(employee);
+        ArgumentCaptor<EmployeeEvent> event = ArgumentCaptor.forClass(EmployeeEvent.class);
+
+        // when  - action or the behaviour that we are going test
+        employeeService.saveEmployee(employee);
+
+        // then  - verify the output
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(EmployeeEvent.Type.SAVED);
+        assertThat(event.getValue().getEmployee()).isEqualTo(employee);
+    }
+
+    // JUnit test for saving employee through the write-behind queue
+    @Test
+    @DisplayName("JUnit test for saving new employee goes through the write-behind queue when enabled")
+    public void givenWriteBehindEnabled_whenSaveEmployee_thenQueuedNotSavedDirectly() {
+        // given - precondition or setup
+        Employee newEmployee = employee.toBuilder().id(0L).build();
+        given(employeeWriteBehindQueue.isEnabled()).willReturn(true);
+        given(employeeWriteBehindQueue.save(eq(newEmployee), any())).willAnswer(invocation -> {
+            invocation.<Consumer<Employee>>getArgument(1).accept(employee);
+            return employee;
+        });
+
+        // when  - action or the behaviour that we are going test
+        Employee savedEmployee = employeeService.saveEmployee(newEmployee);
+
+        // then  - verify the output
+        assertThat(savedEmployee).isEqualTo(employee);
+        verify(employeeRepository, never()).save(any(Employee.class));
+        assertThat(employeeCache.getById(employee.getId(), id -> Optional.empty())).contains(employee);
+        verify(eventPublisher).publishEvent(any(EmployeeEvent.class));
+    }
+
+    // JUnit test for a create committed after its caller timed out, still reaching the indexes
+    @Test
+    @DisplayName("JUnit test for employee committed after the write-behind timeout is found through search and suggest")
+    public void givenBatchCommittedAfterTimeout_whenSaveEmployee_thenSearchableAndSuggested() throws Exception {
+        // given - precondition or setup
+        EmployeeSearchIndex searchIndex = new EmployeeSearchIndex("", Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(employeeRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            List<Employee> employees = invocation.getArgument(0);
+            employees.get(0).setId(7L);
+            return employees;
+        });
+        EmployeeWriteBehindQueue writeBehindQueue = new EmployeeWriteBehindQueue(employeeRepository,
+                transactionManager, new SimpleMeterRegistry(), true, 1, Duration.ZERO, 10, Duration.ofMillis(100));
+        ApplicationEventPublisher indexingPublisher = event -> {
+            searchIndex.onEmployeeEvent((EmployeeEvent) event);
+            employeeSuggestIndex.onEmployeeEvent((EmployeeEvent) event);
+        };
+        EmployeeServiceImpl writeBehindService = new EmployeeServiceImpl(employeeRepository, entityManager,
+                emailBloomFilter, employeeCache, employeeSuggestIndex, searchIndex, employeeCollectionVersion,
+                indexingPublisher, writeBehindQueue, transactionManager);
+        Employee newEmployee = Employee.builder().firstName("Latecomer").lastName("Basha").email("late@mail.com").build();
+
+        try {
+            // when  - action or the behaviour that we are going test
+            assertThrows(ServiceUnavailableException.class, () -> writeBehindService.saveEmployee(newEmployee));
+            release.countDown();
+
+            // then  - verify the output
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (employeeSuggestIndex.suggest("latecomer", 10).isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(employeeSuggestIndex.suggest("latecomer", 10)).extracting(EmployeeDto::getId).containsExactly(7L);
+            searchIndex.refresh();
+            assertThat(searchIndex.search("latecomer", 0, 10).getEmployees()).extracting(EmployeeDto::getId)
+                    .containsExactly(7L);
+            assertThat(emailBloomFilter.mightContain("late@mail.com")).isTrue();
+            assertThat(employeeCache.getById(7L, id -> Optional.empty())).isPresent();
+        } finally {
+            writeBehindQueue.close();
+            searchIndex.close();
+        }
+    }
+
+    // JUnit test for suggest employees from the in-memory index
+    @Test
+    @DisplayName("JUnit test for suggest employees does not touch the repository")
+    public void givenIndexedEmployee_whenSuggestEmployees_thenReturnMatchesWithoutQuery() {
+        // given - precondition or setup
+        employeeSuggestIndex.put(employee);
+
+        // when  - action or the behaviour that we are going test
+        List<EmployeeDto> suggestions = employeeService.suggestEmployees("dow", 10);
+
+        // then  - verify the output
+        assertThat(suggestions).extracting(EmployeeDto::getId).containsExactly(employee.getId());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    // JUnit test for the collection version moving on after a committed write
+    @Test
+    @DisplayName("JUnit test for employees version changes after a write event")
+    public void givenEmployeesVersion_whenEmployeeEvent_thenVersionChanges() {
+        // given - precondition or setup
+        String before = employeeService.getEmployeesVersion();
+
+        // when  - action or the behaviour that we are going test
+        employeeCollectionVersion.onEmployeeEvent(EmployeeEvent.deleted(1L));
+
+        // then  - verify the output
+        assertThat(employeeService.getEmployeesVersion()).isNotEqualTo(before);
+        assertThat(employeeService.getEmployeesVersion()).isEqualTo(employeeService.getEmployeesVersion());
+    }
+
+    // JUnit test for full-text search served by the search index
+    @Test
+    @DisplayName("JUnit test for search employees does not touch the repository")
+    public void givenSearchIndex_whenSearchEmployees_thenReturnIndexResult() {
+        // given - precondition or setup
+        EmployeeSearchResult result = EmployeeSearchResult.builder().total(1)
+                .employees(Collections.singletonList(EmployeeDto.builder().id(1L).firstName("Dowlath").build()))
+                .build();
+        given(employeeSearchIndex.search("dowlat", 0, 20)).willReturn(result);
+
+        // when  - action or the behaviour that we are going test
+        EmployeeSearchResult searchResult = employeeService.searchEmployees("dowlat", 0, 20);
+
+        // then  - verify the output
+        assertThat(searchResult).isSameAs(result);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    // JUnit test for saving employee losing a race on the unique email index
+    @Test
+    @DisplayName("JUnit test for saving employee with concurrent duplicate email throws exception")
+    public void givenUniqueIndexViolation_whenSaveEmployee_thenThrowsException() {
+        // given - precondition or setup
+        given(employeeRepository.save(employee)).willThrow(new DataIntegrityViolationException(
+                "could not execute statement", new RuntimeException("Duplicate entry for key 'employees.uk_employees_email'")));
+
+        // when  - action or the behaviour that we are going test
+        assertThrows(ConflictException.class, () -> {
+            employeeService.saveEmployee(employee);
+        });
+
+        // then
+        assertThat(emailBloomFilter.mightContain(employee.getEmail())).isFalse();
     }
 
     // JUnit test for saving for employee throws exception
@@ -83,6 +292,7 @@ public class EmployeeServiceTests {
         /*Employee employee = Employee.builder().firstName("Dowlath")
                             .lastName("Basha G").email("dowlath@mail.com").build();*/
 
+        emailBloomFilter.put(employee.getEmail());
         given(employeeRepository.findByEmail(employee.getEmail()))
                 .willReturn(Optional.of(employee));
 
@@ -90,7 +300,7 @@ public class EmployeeServiceTests {
         System.out.println(employeeService);
 
         // when  - action or the behaviour that we are going test
-        assertThrows(ResourceNotFoundException.class, () -> {
+        assertThrows(ConflictException.class, () -> {
             employeeService.saveEmployee(employee);
         });
 
@@ -99,6 +309,83 @@ public class EmployeeServiceTests {
 
     }
 
+    // JUnit test for bulk saving employees
+    @Test
+    @DisplayName("JUnit test for bulk saving employees reports every item")
+    public void givenEmployeesList_whenSaveEmployees_thenReturnResultPerItem() {
+        // given - precondition or setup
+        Employee newEmployee = Employee.builder()
+                .firstName("Ariz")
+                .lastName("Dowlath").email("arizdowlath@mail.com").build();
+        Employee repeatedEmail = Employee.builder()
+                .firstName("Arsh")
+                .lastName("Dowlath").email("arizdowlath@mail.com").build();
+        Employee missingName = Employee.builder().email("arsh@mail.com").build();
+        emailBloomFilter.put(employee.getEmail());
+        given(employeeRepository.findExistingEmails(Collections.singletonList(employee.getEmail())))
+                .willReturn(Collections.singletonList(employee.getEmail()));
+        given(employeeRepository.save(newEmployee)).willAnswer(invocation -> {
+            newEmployee.setId(5L);
+            return newEmployee;
+        });
+
+        // when  - action or the behaviour that we are going test
+        List<BulkItemResult> results = employeeService.saveEmployees(
+                Arrays.asList(employee, newEmployee, repeatedEmail, missingName));
+
+        // then  - verify the output
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(409, 201, 409, 400);
+        assertThat(results.get(1).getId()).isEqualTo(5L);
+        verify(employeeRepository, times(1)).save(any(Employee.class));
+    }
+
+    // JUnit test for bulk saving employees comparing emails without case
+    @Test
+    @DisplayName("JUnit test for bulk saving employees rejects emails differing only in case")
+    public void givenEmailsDifferingInCase_whenSaveEmployees_thenConflictWithoutInsert() {
+        // given - precondition or setup
+        Employee newEmployee = Employee.builder().firstName("Ariz").lastName("Dowlath").email("Ariz@mail.com").build();
+        Employee sameEmail = Employee.builder().firstName("Arsh").lastName("Dowlath").email("ariz@MAIL.com").build();
+        Employee takenEmail = Employee.builder().firstName("Dowlath").lastName("Basha").email("DOWLATH@mail.com").build();
+        emailBloomFilter.put(employee.getEmail());
+        given(employeeRepository.findExistingEmails(Collections.singletonList(takenEmail.getEmail())))
+                .willReturn(Collections.singletonList(employee.getEmail()));
+        given(employeeRepository.save(newEmployee)).willAnswer(invocation -> {
+            newEmployee.setId(5L);
+            return newEmployee;
+        });
+
+        // when  - action or the behaviour that we are going test
+        List<BulkItemResult> results = employeeService.saveEmployees(Arrays.asList(newEmployee, sameEmail, takenEmail));
+
+        // then  - verify the output
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(201, 409, 409);
+        verify(employeeRepository, times(1)).save(any(Employee.class));
+    }
+
+    // JUnit test for bulk saving employees when a concurrent create takes an email before the commit
+    @Test
+    @DisplayName("JUnit test for bulk saving employees retries one by one after a duplicate email at commit")
+    public void givenDuplicateAtCommit_whenSaveEmployees_thenOnlyThatItemConflicts() {
+        // given - precondition or setup
+        Employee newEmployee = Employee.builder()
+                .firstName("Ariz")
+                .lastName("Dowlath").email("arizdowlath@mail.com").build();
+        given(employeeRepository.save(any(Employee.class))).willAnswer(invocation -> invocation.getArgument(0));
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("could not execute batch",
+                new RuntimeException("Duplicate entry for key 'uk_employees_email'"));
+        // the whole list, then the first item alone, then the second
+        willThrow(duplicate).willDoNothing().willThrow(duplicate).given(transactionManager).commit(any());
+
+        // when  - action or the behaviour that we are going test
+        List<BulkItemResult> results = employeeService.saveEmployees(Arrays.asList(newEmployee, employee));
+
+        // then  - verify the output
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(201, 409);
+        assertThat(results).extracting(BulkItemResult::getIndex).containsExactly(0, 1);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
     // JUnit test for get all employees
     @DisplayName("JUnit test for get all employees")
     @Test
@@ -143,12 +430,65 @@ public class EmployeeServiceTests {
 
     }
 
+    // JUnit test for get employees page after a cursor
+    @DisplayName("JUnit test for get employees page after a cursor")
+    @Test
+    public void givenCursorAndLimit_whenGetEmployeesAfter_thenReturnEmployeesPage() {
+        // given - precondition or setup
+        EmployeeDto employeeDto = EmployeeDto.builder().id(1L).firstName("Dowlath").lastName("Basha")
+                .email("dowlath@mail.com").build();
+        given(employeeRepository.findPageAfter(0L, PageRequest.of(0, 2)))
+                .willReturn(Collections.singletonList(employeeDto));
+
+        // when  - action or the behaviour that we are going test
+        List<EmployeeDto> empList = employeeService.getEmployeesAfter(0L, 2);
+
+        // then  - verify the output
+        assertThat(empList).containsExactly(employeeDto);
+    }
+
+    // JUnit test for approximate count falling back to exact count
+    @DisplayName("JUnit test for approximate employee count without table statistics")
+    @Test
+    public void givenNoTableStatistics_whenGetApproximateEmployeeCount_thenReturnExactCount() {
+        // given - precondition or setup
+        given(employeeRepository.findApproximateCount()).willReturn(null);
+        given(employeeRepository.count()).willReturn(7L);
+
+        // when  - action or the behaviour that we are going test
+        long count = employeeService.getApproximateEmployeeCount();
+
+        // then  - verify the output
+        assertThat(count).isEqualTo(7L);
+    }
+
+    // JUnit test for export employees
+    @DisplayName("JUnit test for export employees detaches every exported row")
+    @Test
+    public void givenEmployeesStream_whenExportEmployees_thenEveryEmployeeConsumedAndDetached() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Ariz")
+                .lastName("Dowlath").email("arizdowlath@mail.com").build();
+        given(employeeRepository.streamAll()).willReturn(Stream.of(employee, employee1));
+        List<Employee> exported = new ArrayList<>();
+
+        // when  - action or the behaviour that we are going test
+        employeeService.exportEmployees(exported::add);
+
+        // then  - verify the output
+        assertThat(exported).containsExactly(employee, employee1);
+        verify(entityManager, times(1)).detach(employee);
+        verify(entityManager, times(1)).detach(employee1);
+    }
+
     // JUnit test for get employee by id
     @DisplayName("JUnit test for get employee by id")
     @Test
     public void givenEmployeeId_whenGetEmployeeId_thenReturnEmployeeObject() {
         // given - precondition or setup
-        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeRepository.findDetachedById(1L)).willReturn(Optional.of(employee));
 
         // when  - action or the behaviour that we are going test
         //Optional<Employee> emp = employeeService.getEmployeeById(1L);
@@ -157,6 +497,42 @@ public class EmployeeServiceTests {
         assertThat(savedEmployee).isNotNull();
     }
 
+    // JUnit test for get employee by id served from the cache
+    @DisplayName("JUnit test for get employee by id twice reads the database once")
+    @Test
+    public void givenCachedEmployee_whenGetEmployeeId_thenRepositoryCalledOnce() {
+        // given - precondition or setup
+        given(employeeRepository.findDetachedById(1L)).willReturn(Optional.of(employee));
+
+        // when  - action or the behaviour that we are going test
+        employeeService.getEmployeeById(1L).get().setFirstName("changed by caller");
+        Employee cachedEmployee = employeeService.getEmployeeById(1L).get();
+
+        // then  - verify the output
+        assertThat(cachedEmployee.getFirstName()).isEqualTo("Dowlath");
+        verify(employeeRepository, times(1)).findDetachedById(1L);
+    }
+
+    // JUnit test for updated employee refreshes the cache
+    @DisplayName("JUnit test for updated employee replaces the cached employee")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenCachedByNewEmailOnly() {
+        // given - precondition or setup
+        given(employeeRepository.findDetachedById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+        Employee updated = employee.toBuilder().email("arsh@mail.com").build();
+        given(employeeRepository.save(updated)).willReturn(updated);
+        given(employeeRepository.findByEmail("dowlath@mail.com")).willReturn(Optional.empty());
+
+        // when  - action or the behaviour that we are going test
+        employeeService.updateEmployee(updated);
+
+        // then  - verify the output
+        assertThat(employeeService.getEmployeeById(1L).get().getEmail()).isEqualTo("arsh@mail.com");
+        assertThat(employeeCache.getByEmail("dowlath@mail.com", employeeRepository::findByEmail)).isEmpty();
+        verify(employeeRepository, times(1)).findDetachedById(1L);
+    }
+
     // JUnit test for updated employee
     @DisplayName("Junit test case for updated employee")
     @Test
@@ -173,6 +549,53 @@ public class EmployeeServiceTests {
         assertThat(updatedEmployee.getFirstName()).isEqualTo("ariz");
     }
 
+    // JUnit test for patch employee
+    @DisplayName("Junit test case for patch employee returns the next version")
+    @Test
+    public void givenCurrentVersion_whenPatchEmployee_thenReturnNextVersionAndEvictCache() {
+        // given - precondition or setup
+        EmployeePatch patch = EmployeePatch.builder().email("arsh@mail.com").build();
+        employeeCache.put(employee);
+        given(employeeRepository.patch(1L, patch, 0L)).willReturn(1);
+
+        // when  - action or the behaviour that we are going test
+        Optional<Long> version = employeeService.patchEmployee(1L, patch, 0L);
+
+        // then  - verify the output
+        assertThat(version).contains(1L);
+        assertThat(emailBloomFilter.mightContain("arsh@mail.com")).isTrue();
+        verify(employeeCache, times(1)).evict(1L);
+    }
+
+    // JUnit test for patch employee with stale version
+    @DisplayName("Junit test case for patch employee with a stale version")
+    @Test
+    public void givenStaleVersion_whenPatchEmployee_thenThrowsPreconditionFailed() {
+        // given - precondition or setup
+        EmployeePatch patch = EmployeePatch.builder().email("arsh@mail.com").build();
+        given(employeeRepository.patch(1L, patch, 0L)).willReturn(0);
+        given(employeeRepository.existsById(1L)).willReturn(true);
+
+        // when  - action or the behaviour that we are going test
+        assertThrows(PreconditionFailedException.class, () -> employeeService.patchEmployee(1L, patch, 0L));
+    }
+
+    // JUnit test for patch missing employee
+    @DisplayName("Junit test case for patch employee that does not exist")
+    @Test
+    public void givenMissingEmployee_whenPatchEmployee_thenReturnEmpty() {
+        // given - precondition or setup
+        EmployeePatch patch = EmployeePatch.builder().lastName("Dowlath").build();
+        given(employeeRepository.patch(9L, patch, 0L)).willReturn(0);
+        given(employeeRepository.existsById(9L)).willReturn(false);
+
+        // when  - action or the behaviour that we are going test
+        Optional<Long> version = employeeService.patchEmployee(9L, patch, 0L);
+
+        // then  - verify the output
+        assertThat(version).isEmpty();
+    }
+
     // JUnit test for delete by id (employee details)
     @Test
     @DisplayName("Junit test case for delete employee by id")
@@ -181,15 +604,47 @@ public class EmployeeServiceTests {
         // given - precondition or setup
         // Note:
         // if void nothing is return - for BDD should use : " willDoNothing() "
-        willDoNothing().given(employeeRepository).deleteById(employeeId);
+        given(employeeRepository.deleteEmployeeById(employeeId)).willReturn(1);
+        // when  - action or the behaviour that we are going test
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+        // then  - verify the output
+        // single DELETE statement, the row is not loaded first
+        assertThat(deleted).isTrue();
+        verify(employeeRepository,times(1)).deleteEmployeeById(employeeId);
+        verify(employeeRepository,never()).findDetachedById(employeeId);
+
+    }
+
+    // JUnit test for delete missing employee
+    @Test
+    @DisplayName("Junit test case for delete employee that does not exist")
+    public void givenMissingEmployeeId_whenDeleteEmployee_thenReturnFalse() {
+        // given - precondition or setup
+        given(employeeRepository.deleteEmployeeById(9L)).willReturn(0);
         // when  - action or the behaviour that we are going test
-        employeeService.deleteEmployee(employeeId);
+        boolean deleted = employeeService.deleteEmployee(9L);
         // then  - verify the output
-        //Note :
-        // deleteby id - return type is void,so we can't verify,
-        // but will do how many times deletebyid called.in our case only one time its called.
-        verify(employeeRepository,times(1)).deleteById(employeeId);
+        assertThat(deleted).isFalse();
+    }
 
+    // JUnit test for bulk delete employees
+    @Test
+    @DisplayName("Junit test case for bulk delete employees in chunks")
+    public void givenManyEmployeeIds_whenDeleteEmployees_thenOneStatementPerChunk() {
+        // given - precondition or setup
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            ids.add(id);
+        }
+        given(employeeRepository.deleteEmployeesByIdIn(anyCollection())).willReturn(1000, 500);
+        // when  - action or the behaviour that we are going test
+        int deleted = employeeService.deleteEmployees(ids);
+        // then  - verify the output
+        assertThat(deleted).isEqualTo(1500);
+        verify(employeeRepository,times(2)).deleteEmployeesByIdIn(anyCollection());
+        // evicted by EmployeeCache once the transaction commits, not before
+        verify(employeeCache, never()).evict(anyLong());
+        verify(eventPublisher, times(1500)).publishEvent(any(EmployeeEvent.class));
     }
 
 
@@ -0,0 +1,137 @@
+package io.dowlath.employee.service;
+
+import io.dowlath.employee.dto.BulkItemResult;
+import io.dowlath.employee.model.Employee;
+import io.dowlath.employee.repository.EmployeeRepository;
+import io.dowlath.employee.service.Impl.EmployeeServiceImpl;
+import io.dowlath.employee.service.Impl.ShardedEmployeeService;
+import io.dowlath.employee.shard.EmailShardDirectory;
+import io.dowlath.employee.shard.ModuloShardRouter;
+import io.dowlath.employee.shard.ShardContext;
+import io.dowlath.employee.shard.ShardRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 6:50 PM
+ ***/
+@ExtendWith(MockitoExtension.class)
+public class ShardedEmployeeServiceTests {
+
+    @Mock
+    private EmployeeServiceImpl employeeServiceImpl;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmailShardDirectory emailShardDirectory;
+
+    private ShardedEmployeeService shardedEmployeeService;
+
+    @BeforeEach
+    public void setup() {
+        shardedEmployeeService = new ShardedEmployeeService(employeeServiceImpl, employeeRepository,
+                emailShardDirectory,
+                new ShardRoutingDataSource(Arrays.asList(mock(DataSource.class), mock(DataSource.class))),
+                new ModuloShardRouter(2), 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shardedEmployeeService.close();
+    }
+
+    private static Employee employee(String key) {
+        return Employee.builder().firstName("First" + key).lastName("Last" + key).email(key + "@shard.com").build();
+    }
+
+    // JUnit test for a failing shard only failing its own items of a bulk create
+    @Test
+    @DisplayName("JUnit test for bulk create answers 503 for the items of a failed shard and releases their emails")
+    public void givenFailingShard_whenSaveEmployees_thenOnlyItsItemsFail() {
+        // given - precondition or setup
+        given(emailShardDirectory.claim(anyString(), anyInt())).willReturn(true);
+        given(employeeServiceImpl.saveEmployees(anyList())).willAnswer(invocation -> {
+            if(ShardContext.current().getIndex() == 1){
+                throw new DataAccessResourceFailureException("shard 1 is down");
+            }
+            List<Employee> employees = invocation.getArgument(0);
+            List<BulkItemResult> results = new ArrayList<>();
+            for (int i = 0; i < employees.size(); i++) {
+                results.add(BulkItemResult.builder().index(i).status(HttpStatus.CREATED.value()).id(i + 1L).build());
+            }
+            return results;
+        });
+
+        // when  - action or the behaviour that we are going test
+        List<BulkItemResult> results = shardedEmployeeService.saveEmployees(Arrays.asList(
+                employee("a"), employee("b"), employee("c"), employee("d")));
+
+        // then  - verify the output
+        assertThat(results).extracting(BulkItemResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BulkItemResult::getStatus).containsOnly(201, 503);
+        assertThat(results).filteredOn(result -> result.getStatus() == 503).hasSize(2);
+        verify(emailShardDirectory, times(2)).release(anyString());
+    }
+
+    // JUnit test for scatters of concurrent requests not waiting on each other for a thread
+    @Test
+    @DisplayName("JUnit test for a scatter runs on the request thread when the shard threads are busy")
+    public void givenBusyScatterThreads_whenScatter_thenRequestThreadRunsTheShards() throws Exception {
+        // given - precondition or setup
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeServiceImpl.getApproximateEmployeeCount()).willAnswer(invocation -> {
+            if(ShardContext.current().getIndex() == 1 && blocking.getCount() > 0){
+                blocking.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return 1L;
+        });
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> slow = requests.submit(shardedEmployeeService::getApproximateEmployeeCount);
+            assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when  - action or the behaviour that we are going test
+            Future<Long> next = requests.submit(shardedEmployeeService::getApproximateEmployeeCount);
+
+            // then  - verify the output
+            assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo(2L);
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(2L);
+        } finally {
+            release.countDown();
+            requests.shutdownNow();
+        }
+    }
+}
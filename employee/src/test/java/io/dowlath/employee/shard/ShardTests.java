@@ -0,0 +1,68 @@
+package io.dowlath.employee.shard;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 11:20 AM
+ ***/
+public class ShardTests {
+
+    // JUnit test for ids of several instances writing to the same shards
+    @Test
+    @DisplayName("JUnit test for shard ids are unique across instances, routed back to their shard and JavaScript safe")
+    public void givenTwoInstances_whenNewId_thenUniqueAndRoutedBack() {
+        // given - precondition or setup
+        List<DataSource> databases = Arrays.asList(
+                new DriverManagerDataSource("jdbc:h2:mem:shard_ids0;DB_CLOSE_DELAY=-1", "sa", ""),
+                new DriverManagerDataSource("jdbc:h2:mem:shard_ids1;DB_CLOSE_DELAY=-1", "sa", ""));
+        databases.forEach(database -> Flyway.configure().dataSource(database).locations("classpath:db/migration/h2")
+                .load().migrate());
+        ShardRouter shardRouter = new ModuloShardRouter(2);
+        Set<Long> ids = new HashSet<>();
+
+        // when  - action or the behaviour that we are going test
+        // then  - verify the output
+        for (int index = 0; index < 2; index++) {
+            Shard instanceOne = new Shard(index, databases.get(index), shardRouter);
+            Shard instanceTwo = new Shard(index, databases.get(index), shardRouter);
+            for (int i = 0; i < 3 * Shard.BLOCK_SIZE; i++) {
+                for (long id : new long[]{instanceOne.newId(), instanceTwo.newId()}) {
+                    assertThat(shardRouter.shardOf(id)).isEqualTo(index);
+                    assertThat(id).isPositive().isLessThan(1L << 53);
+                    assertThat(ids.add(id)).isTrue();
+                }
+            }
+        }
+    }
+
+    // JUnit test for the default router
+    @Test
+    @DisplayName("JUnit test for modulo router writes the shard into the id and rejects impossible layouts")
+    public void givenModuloRouter_whenIdOf_thenShardOfReturnsThatShard() {
+        // given - precondition or setup
+        ShardRouter shardRouter = new ModuloShardRouter(3);
+
+        // when  - action or the behaviour that we are going test
+        long id = shardRouter.idOf(2, 7);
+
+        // then  - verify the output
+        assertThat(id).isEqualTo(23);
+        assertThat(shardRouter.shardOf(id)).isEqualTo(2);
+        assertThatThrownBy(() -> shardRouter.idOf(1, Long.MAX_VALUE / 2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> new ModuloShardRouter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
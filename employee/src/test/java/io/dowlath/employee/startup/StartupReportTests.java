@@ -0,0 +1,45 @@
+package io.dowlath.employee.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Author : Dowlath Basha G
+ * Date   : 10/18/2026
+ * Time   : 1:00 PM
+ ***/
+public class StartupReportTests {
+
+    @Test
+    @DisplayName("Junit test case for phases in order and beans timed without the beans they waited for")
+    public void givenStartupTimeline_whenReport_thenPhasesAndSlowestBeansListed() throws InterruptedException {
+        // given - precondition or setup
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep refresh = startup.start("spring.context.refresh");
+        StartupStep service = startup.start(StartupReport.BEAN_STEP).tag("beanName", "employeeService");
+        StartupStep repository = startup.start(StartupReport.BEAN_STEP).tag("beanName", "employeeRepository");
+        StartupStep repositoryInit = startup.start("spring.data.repository.init");
+        Thread.sleep(50);
+        repositoryInit.end();
+        repository.end();
+        Thread.sleep(5);
+        service.end();
+        refresh.end();
+        StartupStep started = startup.start("spring.boot.application.started");
+        started.end();
+
+        // when  - action or the behaviour that we are going test
+        String report = new StartupReport(1).report(startup.getBufferedTimeline(), Instant.now());
+
+        // then  - verify the output
+        assertThat(report).containsSubsequence("ready", "spring.context.refresh", "spring.boot.application.started",
+                "slowest beans", "employeeRepository");
+        assertThat(report).doesNotContain("spring.data.repository.init").doesNotContain("employeeService");
+    }
+}